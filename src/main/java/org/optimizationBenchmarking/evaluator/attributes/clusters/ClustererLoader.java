@@ -27,6 +27,21 @@ public final class ClustererLoader {
    * {@link #PARAM_MIN_GROUPS}
    */
   public static final int MAX_GROUPS = 100;
+  /**
+   * Should behavior-based clustering use the fitted models sampled at
+   * shared points instead of a distance matrix? This needs memory only
+   * linear in the number of clustered elements, but may lead to different
+   * clusters. Default: {@code false}.
+   */
+  public static final String PARAM_BEHAVIOR_EMBEDDING = "behaviorEmbedding"; //$NON-NLS-1$
+  /**
+   * Should behavior-based clustering compare the fitted models on at most
+   * a small number of points representing the data of each element
+   * instead of on all of its data points? This is much faster for large
+   * data and needs less memory, but may lead to different clusters.
+   * Default: {@code false}.
+   */
+  public static final String PARAM_BEHAVIOR_REPRESENTATIVE_POINTS = "behaviorRepresentativePoints"; //$NON-NLS-1$
 
   /**
    * Obtain the attribute used to get the clustering
@@ -1,5 +1,6 @@
 package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.concurrent.Future;
@@ -10,10 +11,15 @@ import org.optimizationBenchmarking.evaluator.attributes.OnlySharedInstances;
 import org.optimizationBenchmarking.evaluator.attributes.clusters.ClusterUtils;
 import org.optimizationBenchmarking.evaluator.attributes.clusters.ClustererLoader;
 import org.optimizationBenchmarking.evaluator.attributes.clusters.IClustering;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.ExperimentSetFingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.Fingerprint;
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformationParser;
 import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipAndData;
 import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipModels;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.EDataReduction;
+import org.optimizationBenchmarking.evaluator.attributes.storage.PersistentStore;
 import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
 import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
@@ -23,7 +29,6 @@ import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
 import org.optimizationBenchmarking.evaluator.data.spec.IInstanceSet;
 import org.optimizationBenchmarking.evaluator.data.spec.INamedElement;
 import org.optimizationBenchmarking.evaluator.data.spec.INamedElementSet;
-import org.optimizationBenchmarking.utils.MemoryUtils;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.comparison.Compare;
 import org.optimizationBenchmarking.utils.config.Configuration;
@@ -33,6 +38,7 @@ import org.optimizationBenchmarking.utils.math.matrix.impl.DistanceMatrix;
 import org.optimizationBenchmarking.utils.math.text.ABCParameterRenderer;
 import org.optimizationBenchmarking.utils.ml.clustering.impl.DefaultClusterer;
 import org.optimizationBenchmarking.utils.ml.clustering.spec.IClusteringJob;
+import org.optimizationBenchmarking.utils.ml.clustering.spec.IDataClusteringJobBuilder;
 import org.optimizationBenchmarking.utils.ml.clustering.spec.IDistanceClusteringJobBuilder;
 import org.optimizationBenchmarking.utils.parallel.Execute;
 import org.optimizationBenchmarking.utils.text.ITextable;
@@ -62,12 +68,39 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
    */
   private final DimensionTransformation[] m_transformations;
 
+  /**
+   * should the elements be clustered based on their embeddings instead of
+   * a distance matrix?
+   */
+  private final boolean m_useEmbedding;
+
+  /**
+   * should the models be compared on points representing the data of each
+   * element instead of on all of its data points?
+   */
+  private final boolean m_useRepresentativePoints;
+
+  /**
+   * the data reduction applied to each run before fitting, as configured
+   * when this clusterer was created
+   */
+  private final EDataReduction m_reduction;
+
+  /** the maximum number of points kept per run by the data reduction */
+  private final int m_maxPointsPerRun;
+
   /** the path component suggestion */
   final String m_pathComponentSuggestion;
 
   /** the hash code */
   private final int m_hashCode;
 
+  /**
+   * the hash code of the non-identity transformations, the data
+   * reduction, and the use of representative points
+   */
+  private final int m_transformationsHashCode;
+
   /**
    * create the clusterer
    *
@@ -85,10 +118,38 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
   _BehaviorClusterer(final DimensionTransformation[] transformations,
       final int minClusters, final int maxClusters,
       final String baseName) {
+    this(transformations, minClusters, maxClusters, false, false,
+        baseName);
+  }
+
+  /**
+   * create the clusterer
+   *
+   * @param transformations
+   *          the dimension transformations
+   * @param minClusters
+   *          the minimum number of clusters to be used, {@code -1} for
+   *          undefined
+   * @param maxClusters
+   *          the minimum number of clusters to be used, {@code -1} for
+   *          undefined
+   * @param useEmbedding
+   *          should the elements be clustered based on their embeddings
+   *          instead of a distance matrix?
+   * @param useRepresentativePoints
+   *          should the models be compared on points representing the
+   *          data of each element instead of on all of its data points?
+   * @param baseName
+   *          the basic name
+   */
+  _BehaviorClusterer(final DimensionTransformation[] transformations,
+      final int minClusters, final int maxClusters,
+      final boolean useEmbedding, final boolean useRepresentativePoints,
+      final String baseName) {
     super(EAttributeType.PERMANENTLY_STORED);
 
     final MemoryTextOutput stringBuilder;
-    int hashCode;
+    int hashCode, transformationsHashCode;
 
     if ((minClusters > 0) && (maxClusters > 0)
         && (minClusters > maxClusters)) {
@@ -109,6 +170,12 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
     this.m_minClusters = minClusters;
     this.m_maxClusters = maxClusters;
     this.m_transformations = transformations;
+    this.m_useEmbedding = useEmbedding;
+    this.m_useRepresentativePoints = useRepresentativePoints;
+    this.m_reduction = DimensionRelationshipModels.getDataReduction();
+    // without reduction, the maximum number of points makes no difference
+    this.m_maxPointsPerRun = ((this.m_reduction == EDataReduction.NONE) ? 0
+        : DimensionRelationshipModels.getMaxPointsPerRun());
 
     stringBuilder = new MemoryTextOutput();
     stringBuilder.append(baseName);
@@ -116,16 +183,27 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
         HashUtils.combineHashes(//
             HashUtils.hashCode(this.m_maxClusters),
             HashUtils.hashCode(this.m_minClusters)));
+    hashCode = HashUtils.combineHashes(hashCode,
+        HashUtils.hashCode(this.m_useEmbedding));
+    transformationsHashCode = HashUtils.combineHashes(//
+        HashUtils.combineHashes(//
+            HashUtils.hashCode(this.m_reduction), //
+            HashUtils.hashCode(this.m_maxPointsPerRun)),
+        HashUtils.hashCode(this.m_useRepresentativePoints));
+    hashCode = HashUtils.combineHashes(hashCode, transformationsHashCode);
     for (final DimensionTransformation dimTrans : transformations) {
       if (!(dimTrans.isIdentityTransformation())) {
         stringBuilder.append('_');
         stringBuilder.append(dimTrans.getPathComponentSuggestion());
         hashCode = HashUtils.combineHashes(hashCode,
             HashUtils.hashCode(dimTrans));
+        transformationsHashCode = HashUtils.combineHashes(
+            transformationsHashCode, HashUtils.hashCode(dimTrans));
       }
     }
     this.m_pathComponentSuggestion = stringBuilder.toString();
     this.m_hashCode = hashCode;
+    this.m_transformationsHashCode = transformationsHashCode;
   }
 
   /**
@@ -145,6 +223,9 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
             ClustererLoader.MAX_GROUPS, -1), //
         config.getInt(ClustererLoader.PARAM_MAX_GROUPS, -1,
             ClustererLoader.MAX_GROUPS, -1),
+        config.getBoolean(ClustererLoader.PARAM_BEHAVIOR_EMBEDDING, false),
+        config.getBoolean(
+            ClustererLoader.PARAM_BEHAVIOR_REPRESENTATIVE_POINTS, false),
         baseName);
   }
 
@@ -285,7 +366,8 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
       for (final IDimension objDim : objective) {
         list.add(new DimensionRelationshipAndData(//
             this.__getTransformation(timeDim), //
-            this.__getTransformation(objDim)));
+            this.__getTransformation(objDim), //
+            this.m_reduction, this.m_maxPointsPerRun));
       }
     }
 
@@ -311,92 +393,277 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
       final ArrayListView<? extends INamedElement> names);
 
   /**
-   * Compute the result.
+   * Fit the models for a wave of elements. All fittings of all elements,
+   * i.e., one per element, run category, and dimension pair, are
+   * submitted as independent tasks and joined once, so no worker thread
+   * ever blocks waiting for other tasks of the same wave. If
+   * {@code representative} is {@code true}, each fitting is replaced by
+   * its {@link DimensionRelationshipData#getRepresentative() compact
+   * version}, so that the distance computation is cheaper and the full
+   * data matrices are not kept alive.
+   *
+   * @param runs
+   *          the runs of each element, the entries of the processed
+   *          elements will be set to {@code null}
+   * @param start
+   *          the index of the first element of the wave
+   * @param end
+   *          the exclusive end index of the wave
+   * @param attrs
+   *          the fitting attributes
+   * @param fittings
+   *          the destination for the fittings
+   * @param representative
+   *          should the fittings be replaced by their compact versions?
+   * @param logger
+   *          the logger
+   */
+  @SuppressWarnings("unchecked")
+  private static final void __fitWave(final IInstanceRuns[][] runs,
+      final int start, final int end,
+      final DimensionRelationshipAndData[] attrs,
+      final DimensionRelationshipData[][][] fittings,
+      final boolean representative, final Logger logger) {
+    final Future<DimensionRelationshipData>[] futures;
+    final DimensionRelationshipData[] results;
+    DimensionRelationshipData[][] elementFittings;
+    int count, index, category;
+
+    count = 0;
+    for (index = start; index < end; index++) {
+      count += runs[index].length;
+    }
+    futures = new Future[count * attrs.length];
+
+    count = 0;
+    for (index = start; index < end; index++) {
+      for (final IInstanceRuns instanceRuns : runs[index]) {
+        for (final DimensionRelationshipAndData attr : attrs) {
+          futures[count++] = Execute
+              .parallel(attr.getter(instanceRuns, logger));
+        }
+      }
+    }
+
+    results = new DimensionRelationshipData[futures.length];
+    Execute.join(futures, results, 0, false);
+    if (representative) {
+      for (index = results.length; (--index) >= 0;) {
+        results[index] = results[index].getRepresentative();
+      }
+    }
+
+    count = 0;
+    for (index = start; index < end; index++) {
+      elementFittings = new DimensionRelationshipData[runs[index].length][];
+      for (category = 0; category < elementFittings.length; category++) {
+        elementFittings[category] = new DimensionRelationshipData[attrs.length];
+        System.arraycopy(results, count, elementFittings[category], 0,
+            attrs.length);
+        count += attrs.length;
+      }
+      fittings[index] = elementFittings;
+      runs[index] = null;
+    }
+  }
+
+  /**
+   * Fit the models for all elements. The elements are processed in waves
+   * whose estimated memory footprint fits into the
+   * {@link _FittingMemoryBudget memory budget} left over by the distance
+   * matrix, if one is needed, and by the fittings finished in the previous
+   * waves, which are kept together with the data they are measured on.
+   * This way, the memory needed for fitting is bounded and the garbage
+   * produced by one wave can be collected during the next one. Each wave
+   * contains at least {@link _FittingMemoryBudget#_getMinWaveWidth() a
+   * few} elements, so that the fitting never becomes sequential.
    *
    * @param data
    *          the data
+   * @param elements
+   *          the elements to cluster
+   * @param categories
+   *          the run categories
+   * @param attrs
+   *          the fitting attributes
    * @param logger
    *          the logger
-   * @return the result
+   * @return the fittings
    */
-  @SuppressWarnings("unchecked")
-  private final CCT __compute(final IExperimentSet data,
+  private final DimensionRelationshipData[][][] __fit(
+      final IExperimentSet data,
+      final ArrayListView<? extends INamedElement> elements,
+      final String[] categories, final DimensionRelationshipAndData[] attrs,
       final Logger logger) {
-    final INamedElementSet names;
-    final ArrayListView<? extends INamedElement> elements;
     final int size;
-    final String what;
-    final CCT result;
-    IDistanceClusteringJobBuilder clusterBuilder;
-    String[] categories;
-    IExperimentSet shared;
-    DistanceMatrix distances;
-    int index;
-    Future<DimensionRelationshipData[][]>[] fittingsFutures;
-    DimensionRelationshipData[][][] fittings;
-    DimensionRelationshipAndData[] attrs;
-    int[] clusters;
-    MemoryTextOutput textOut;
-    IClusteringJob job;
-    String name;
+    final IInstanceRuns[][] runs;
+    final long[] estimates, retained;
+    final long budget;
+    final int minWidth;
+    final DimensionRelationshipData[][][] fittings;
+    long used, kept, available;
+    int start, end, index;
 
-    shared = OnlySharedInstances.INSTANCE.get(data, logger);
-    names = this._getElementsToCluster(shared);
+    size = elements.size();
+    runs = new IInstanceRuns[size][];
+    estimates = new long[size];
+    retained = new long[size];
+    for (index = size; (--index) >= 0;) {
+      runs[index] = this._getRunsPerElement(data, elements.get(index),
+          categories);
+      estimates[index] = _FittingMemoryBudget._estimateFittings(
+          runs[index], attrs.length);
+      retained[index] = _FittingMemoryBudget._estimateRetained(
+          runs[index], attrs.length, this.m_useRepresentativePoints);
+    }
 
-    name = null;
-    if (names.getData().isEmpty()) {
-      throw new IllegalArgumentException(//
-          "There is not even one benchmark instance for which all experiments contain at least one run. Since there is no such instance, there is no basis for behavior-based clustering.");//$NON-NLS-1$
+    budget = (_FittingMemoryBudget._getBudget()
+        - ((this.m_useEmbedding
+            || _FittingMemoryBudget._isDistanceMatrixTooLarge(size)) ? 0L
+                : _FittingMemoryBudget._estimateDistanceMatrix(size)));
+    minWidth = _FittingMemoryBudget._getMinWaveWidth();
+    fittings = new DimensionRelationshipData[size][][];
+
+    kept = 0L;
+    for (start = 0; start < size; start = end) {
+      // the fittings of the previous waves are still in memory
+      available = (budget - kept);
+      used = estimates[start];
+      for (end = (start + 1); end < size; end++) {
+        if (((end - start) >= minWidth)
+            && ((available - used) < estimates[end])) {
+          break;
+        }
+        used += estimates[end];
+      }
+
+      if ((logger != null) && (start > 0)
+          && (logger.isLoggable(Level.FINEST))) {
+        logger.finest("Memory budget reached, now fitting elements " //$NON-NLS-1$
+            + start + " to " + (end - 1) + '.'); //$NON-NLS-1$
+      }
+
+      _BehaviorClusterer.__fitWave(runs, start, end, attrs, fittings,
+          this.m_useRepresentativePoints, logger);
+      for (index = start; index < end; index++) {
+        kept += retained[index];
+      }
+    }
+
+    if ((kept > budget) && (logger != null)
+        && (logger.isLoggable(Level.WARNING))) {
+      logger.warning(//
+          "The fitted models and their data may not fit into memory. Consider setting parameter '" //$NON-NLS-1$
+              + ClustererLoader.PARAM_BEHAVIOR_REPRESENTATIVE_POINTS + //
+              "' to keep only points representing the data of each element.");//$NON-NLS-1$
     }
 
+    return fittings;
+  }
+
+  /**
+   * Fit the models for all elements to be clustered. This method is
+   * called by the {@link _BehaviorFittings fittings attribute}, which
+   * caches the result.
+   *
+   * @param shared
+   *          the shared-instance view of the data
+   * @param logger
+   *          the logger
+   * @return the fittings, indexed by element, run category, and dimension
+   *         pair
+   */
+  final DimensionRelationshipData[][][] _fit(final IExperimentSet shared,
+      final Logger logger) {
+    final String[] categories;
+
     categories = this._getRunCategories(shared);
     Arrays.sort(categories);
-    shared = null;
+    return this.__fit(shared, this._getElementsToCluster(shared).getData(),
+        categories, this.__getFittingAttributes(shared), logger);
+  }
 
-    if ((logger != null) && (logger.isLoggable(Level.INFO))) {
-      name = this.toString();
-      what = ((" the set of " + names.getData().size()) + //$NON-NLS-1$
-          ((names instanceof IInstanceSet)//
-              ? " instances" //$NON-NLS-1$
-              : ((names instanceof IExperimentSet)//
-                  ? " experiments" //$NON-NLS-1$
-                  : "? i am confused?")));//$NON-NLS-1$
-      logger.info("Beginning to cluster" + what + //$NON-NLS-1$
-          " based on algorithm runtime behavior using " + //$NON-NLS-1$
-          name + " on dataset " + //$NON-NLS-1$
-          ClusterUtils.dataIdentityString(data));
-      if (logger.isLoggable(Level.FINER)) {
-        logger.finer(//
-            "First, we model the runtime behavior of each algorithm on each benchmark instance for each runtime/objective dimension pair.");//$NON-NLS-1$
+  /**
+   * Check whether this clusterer uses the same dimension transformations,
+   * data reduction, and representative points as another one, i.e.,
+   * whether both fit the same models to the same data and compare them in
+   * the same way
+   *
+   * @param other
+   *          the other clusterer
+   * @return {@code true} if both clusterers transform all dimensions and
+   *         reduce all runs in the same way, {@code false} otherwise
+   */
+  final boolean _hasSameTransformations(final _BehaviorClusterer<?> other) {
+    int index;
+
+    if ((this.m_reduction != other.m_reduction)
+        || (this.m_maxPointsPerRun != other.m_maxPointsPerRun)
+        || (this.m_useRepresentativePoints != //
+        other.m_useRepresentativePoints)) {
+      return false;
+    }
+
+    index = this.m_transformations.length;
+    if (index != other.m_transformations.length) {
+      return false;
+    }
+    for (; (--index) >= 0;) {
+      if (this.m_transformations[index].isIdentityTransformation() && //
+          other.m_transformations[index].isIdentityTransformation()) {
+        continue;
+      }
+      if (!(Compare.equals(this.m_transformations[index],
+          other.m_transformations[index]))) {
+        return false;
       }
-    } else {
-      what = null;
     }
+    return true;
+  }
 
-    attrs = this.__getFittingAttributes(data);
+  /**
+   * Get the hash code of the dimension transformations, the data
+   * reduction, and the use of representative points
+   *
+   * @return the hash code of the dimension transformations, the data
+   *         reduction, and the use of representative points
+   */
+  final int _getTransformationsHashCode() {
+    return this.m_transformationsHashCode;
+  }
 
-    elements = names.getData();
-    size = elements.size();
-    fittingsFutures = new Future[size];
-    for (index = size; (--index) >= 0;) {
-      fittingsFutures[index] = Execute.parallel(new _ElementFittingsJob(
-          this._getRunsPerElement(data, elements.get(index), categories),
-          attrs, logger));
-    }
-    categories = null;
-    attrs = null;
-    fittings = new DimensionRelationshipData[size][][];
-    Execute.join(fittingsFutures, fittings, 0, false);
-    fittingsFutures = null;
+  /**
+   * Cluster the elements based on a distance matrix computed from the
+   * fittings.
+   *
+   * @param shared
+   *          the shared-instance view of the data
+   * @param fittings
+   *          the fittings attribute
+   * @param what
+   *          the description of the elements, or {@code null} if nothing
+   *          needs to be logged
+   * @param logger
+   *          the logger
+   * @return the clusters
+   */
+  private final int[] __clusterByDistances(final IExperimentSet shared,
+      final _BehaviorFittings fittings, final String what,
+      final Logger logger) {
+    IDistanceClusteringJobBuilder clusterBuilder;
+    DistanceMatrix distances;
+    MemoryTextOutput textOut;
+    IClusteringJob job;
 
+    // make sure the fittings exist before claiming that modeling is done
+    fittings.get(shared, logger);
     if ((logger != null) && (what != null)
         && (logger.isLoggable(Level.FINER))) {
       logger.finer(//
           "Modeling completed, now computing a distance matrix which represents how well models for one instance runs set can represent the data from another one.");//$NON-NLS-1$
     }
 
-    distances = new _DistanceBuilderSumMaxLog(fittings).call();
-    fittings = null;
+    distances = new _BehaviorDistances(fittings).get(shared, logger);
 
     if ((logger != null) && (what != null)
         && logger.isLoggable(Level.FINER)) {
@@ -433,8 +700,245 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
     }
     job = clusterBuilder.create();
     clusterBuilder = null;
-    clusters = job.call().getClustersRef();
-    job = null;
+    return job.call().getClustersRef();
+  }
+
+  /**
+   * Cluster the elements based on their
+   * {@link _BehaviorEmbedding embeddings}, which needs memory only linear
+   * in the number of elements.
+   *
+   * @param shared
+   *          the shared-instance view of the data
+   * @param fittings
+   *          the fittings attribute
+   * @param what
+   *          the description of the elements, or {@code null} if nothing
+   *          needs to be logged
+   * @param logger
+   *          the logger
+   * @return the clusters
+   */
+  private final int[] __clusterByEmbedding(final IExperimentSet shared,
+      final _BehaviorFittings fittings, final String what,
+      final Logger logger) {
+    IDataClusteringJobBuilder clusterBuilder;
+    DimensionRelationshipData[][][] data;
+    IClusteringJob job;
+
+    data = fittings.get(shared, logger);
+    if ((logger != null) && (what != null)
+        && (logger.isLoggable(Level.FINER))) {
+      logger.finer(//
+          "Modeling completed, now we cluster the fitted models sampled at shared points.");//$NON-NLS-1$
+    }
+
+    clusterBuilder = DefaultClusterer.getDataInstance().use()//
+        .setLogger(logger)//
+        .setData(_BehaviorEmbedding._embed(data));
+    data = null;
+    if (this.m_minClusters > 0) {
+      clusterBuilder.setMinClusters(this.m_minClusters);
+    }
+    if (this.m_maxClusters > 0) {
+      clusterBuilder.setMaxClusters(this.m_maxClusters);
+    }
+    job = clusterBuilder.create();
+    clusterBuilder = null;
+    return job.call().getClustersRef();
+  }
+
+  /**
+   * Get the key identifying this clusterer in the {@link PersistentStore}.
+   * Unlike the {@link #hashCode() hash code}, it is the same in every
+   * process.
+   *
+   * @return the key
+   */
+  private final String __getStoreKey() {
+    final MemoryTextOutput textOut;
+
+    textOut = new MemoryTextOutput();
+    textOut.append(this.getClass().getName());
+    textOut.append('(');
+    for (final DimensionTransformation trafo : this.m_transformations) {
+      if (!(trafo.isIdentityTransformation())) {
+        textOut.append(trafo.getDimension().getName());
+        textOut.append('=');
+        trafo.mathRender(textOut, ABCParameterRenderer.INSTANCE);
+        textOut.append(',');
+      }
+    }
+    textOut.append(this.m_minClusters);
+    textOut.append(',');
+    textOut.append(this.m_maxClusters);
+    textOut.append(',');
+    textOut.append(this.m_reduction.name());
+    textOut.append('=');
+    textOut.append(this.m_maxPointsPerRun);
+    if (this.m_useRepresentativePoints) {
+      textOut.append(",representative");//$NON-NLS-1$
+    }
+    if (this.m_useEmbedding) {
+      textOut.append(",embedding");//$NON-NLS-1$
+    }
+    textOut.append(')');
+    return textOut.toString();
+  }
+
+  /**
+   * Load the cluster indexes from the persistent store
+   *
+   * @param store
+   *          the store
+   * @param key
+   *          the key
+   * @param content
+   *          the fingerprint of the data
+   * @param size
+   *          the number of clustered elements
+   * @param logger
+   *          the logger
+   * @return the cluster indexes, or {@code null} if none were stored
+   */
+  private static final int[] __loadClusters(final PersistentStore store,
+      final String key, final Fingerprint content, final int size,
+      final Logger logger) {
+    final ByteBuffer buffer;
+    final int[] clusters;
+
+    buffer = store.read(key, content, logger);
+    if ((buffer == null) || (buffer.remaining() != (size << 2))) {
+      return null;
+    }
+    clusters = new int[size];
+    buffer.asIntBuffer().get(clusters);
+    return clusters;
+  }
+
+  /**
+   * Store the cluster indexes in the persistent store
+   *
+   * @param store
+   *          the store
+   * @param key
+   *          the key
+   * @param content
+   *          the fingerprint of the data
+   * @param clusters
+   *          the cluster indexes
+   * @param logger
+   *          the logger
+   */
+  private static final void __storeClusters(final PersistentStore store,
+      final String key, final Fingerprint content, final int[] clusters,
+      final Logger logger) {
+    final ByteBuffer buffer;
+
+    buffer = ByteBuffer.allocate(clusters.length << 2);
+    buffer.asIntBuffer().put(clusters);
+    store.write(key, content, buffer, logger);
+  }
+
+  /**
+   * Compute the result. If a {@link PersistentStore} is configured and
+   * the same data has been clustered in the same way before, the cluster
+   * indexes are taken from there. A clustering based on
+   * {@link DimensionRelationshipModels#isWarmStart() warm-started}
+   * fittings cannot be reproduced, just like these fittings, so it is
+   * not stored. The same holds for a clustering based on
+   * {@link DimensionRelationshipModels#isScreening() screened} fittings.
+   *
+   * @param data
+   *          the data
+   * @param logger
+   *          the logger
+   * @return the result
+   */
+  private final CCT __compute(final IExperimentSet data,
+      final Logger logger) {
+    final INamedElementSet names;
+    final ArrayListView<? extends INamedElement> elements;
+    final String what;
+    final CCT result;
+    final PersistentStore store;
+    final String key;
+    final Fingerprint content;
+    _BehaviorFittings fittings;
+    IExperimentSet shared;
+    int[] clusters;
+    String name;
+
+    shared = OnlySharedInstances.INSTANCE.get(data, logger);
+    names = this._getElementsToCluster(shared);
+
+    name = null;
+    if (names.getData().isEmpty()) {
+      throw new IllegalArgumentException(//
+          "There is not even one benchmark instance for which all experiments contain at least one run. Since there is no such instance, there is no basis for behavior-based clustering.");//$NON-NLS-1$
+    }
+
+    if ((logger != null) && (logger.isLoggable(Level.INFO))) {
+      name = this.toString();
+      what = ((" the set of " + names.getData().size()) + //$NON-NLS-1$
+          ((names instanceof IInstanceSet)//
+              ? " instances" //$NON-NLS-1$
+              : ((names instanceof IExperimentSet)//
+                  ? " experiments" //$NON-NLS-1$
+                  : "? i am confused?")));//$NON-NLS-1$
+      logger.info("Beginning to cluster" + what + //$NON-NLS-1$
+          " based on algorithm runtime behavior using " + //$NON-NLS-1$
+          name + " on dataset " + //$NON-NLS-1$
+          ClusterUtils.dataIdentityString(data));
+      if (logger.isLoggable(Level.FINER)) {
+        logger.finer(//
+            "First, we model the runtime behavior of each algorithm on each benchmark instance for each runtime/objective dimension pair.");//$NON-NLS-1$
+      }
+    } else {
+      what = null;
+    }
+
+    elements = names.getData();
+
+    store = PersistentStore.getInstance();
+    if (store != null) {
+      key = this.__getStoreKey();
+      content = ExperimentSetFingerprint.INSTANCE.get(data, logger);
+      clusters = _BehaviorClusterer.__loadClusters(store, key, content,
+          elements.size(), logger);
+    } else {
+      key = null;
+      content = null;
+      clusters = null;
+    }
+
+    if (clusters == null) {
+      fittings = new _BehaviorFittings(this);
+      if (this.m_useEmbedding) {
+        clusters = this.__clusterByEmbedding(shared, fittings, what,
+            logger);
+      } else {
+        if ((logger != null) && (logger.isLoggable(Level.WARNING))
+            && _FittingMemoryBudget
+                ._isDistanceMatrixTooLarge(elements.size())) {
+          logger.warning(//
+              "The distance matrix for " + elements.size() + //$NON-NLS-1$
+                  " elements may not fit into memory. Consider setting parameter '" //$NON-NLS-1$
+                  + ClustererLoader.PARAM_BEHAVIOR_EMBEDDING + //
+                  "' to cluster the fitted models sampled at shared points instead.");//$NON-NLS-1$
+        }
+        clusters = this.__clusterByDistances(shared, fittings, what,
+            logger);
+      }
+      fittings = null;
+      if ((store != null)
+          && (!(DimensionRelationshipModels.isWarmStart()))
+          && (!(DimensionRelationshipModels.isScreening()))) {
+        _BehaviorClusterer.__storeClusters(store, key, content, clusters,
+            logger);
+      }
+    }
+    shared = null;
 
     if ((logger != null) && (what != null)
         && logger.isLoggable(Level.FINER)) {
@@ -465,10 +969,7 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
   @Override
   protected final CCT compute(final IExperimentSet data,
       final Logger logger) {
-    final CCT result;
-    result = this.__compute(data, logger);
-    MemoryUtils.fullGC();
-    return result;
+    return this.__compute(data, logger);
   }
 
   /** {@inheritDoc} */
@@ -476,7 +977,6 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
   @Override
   public final boolean equals(final Object o) {
     _BehaviorClusterer<CCT> other;
-    int index;
 
     if (o == null) {
       return false;
@@ -487,23 +987,10 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
     if (o.getClass() == this.getClass()) {
       other = ((_BehaviorClusterer<CCT>) o);
       if ((this.m_minClusters == other.m_minClusters)//
-          && (this.m_maxClusters == other.m_maxClusters)) {
-
-        index = this.m_transformations.length;
-        if (index == other.m_transformations.length) {
-          for (; (--index) >= 0;) {
-            if (this.m_transformations[index].isIdentityTransformation() && //
-                other.m_transformations[index]
-                    .isIdentityTransformation()) {
-              continue;
-            }
-            if (!(Compare.equals(this.m_transformations[index],
-                other.m_transformations[index]))) {
-              return false;
-            }
-          }
-          return true;
-        }
+          && (this.m_maxClusters == other.m_maxClusters)//
+          && (this.m_useEmbedding == other.m_useEmbedding)) {
+
+        return this._hasSameTransformations(other);
       }
     }
     return false;
@@ -550,7 +1037,20 @@ abstract class _BehaviorClusterer<CCT extends IClustering>
       if (this.m_maxClusters > 0) {
         textOut.append(this.m_maxClusters);
       }
-      textOut.append("] groups #");//$NON-NLS-1$
+      textOut.append("] groups");//$NON-NLS-1$
+      if (this.m_useEmbedding) {
+        textOut.append(" by embedding");//$NON-NLS-1$
+      }
+      if (this.m_useRepresentativePoints) {
+        textOut.append(" on representative points");//$NON-NLS-1$
+      }
+      if (this.m_reduction != EDataReduction.NONE) {
+        textOut.append(" from ");//$NON-NLS-1$
+        textOut.append(this.m_maxPointsPerRun);
+        textOut.append(" points per run by ");//$NON-NLS-1$
+        textOut.append(this.m_reduction.name());
+      }
+      textOut.append(" #");//$NON-NLS-1$
     }
     textOut.append(System.identityHashCode(this));
     textOut.append('/');
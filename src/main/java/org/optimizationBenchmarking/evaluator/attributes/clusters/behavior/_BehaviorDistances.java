@@ -0,0 +1,58 @@
+package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
+
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DistanceMatrix;
+
+/**
+ * The distance matrix computed from the {@link _BehaviorFittings fitted
+ * models} of the elements to be clustered. Like the fittings, it does not
+ * depend on the number of clusters and can thus be shared by behavior
+ * clusterers which only differ in the number of clusters.
+ */
+final class _BehaviorDistances
+    extends Attribute<IExperimentSet, DistanceMatrix> {
+
+  /** the fittings to compute the distances from */
+  private final _BehaviorFittings m_fittings;
+
+  /**
+   * create the distance attribute
+   *
+   * @param fittings
+   *          the fittings to compute the distances from
+   */
+  _BehaviorDistances(final _BehaviorFittings fittings) {
+    super(EAttributeType.TEMPORARILY_STORED);
+    this.m_fittings = fittings;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final DistanceMatrix compute(final IExperimentSet data,
+      final Logger logger) {
+    return new _DistanceBuilderSumMaxLog(this.m_fittings.get(data, logger))
+        .call();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    }
+    return ((o instanceof _BehaviorDistances) && //
+        this.m_fittings.equals(((_BehaviorDistances) o).m_fittings));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return HashUtils.combineHashes(_BehaviorDistances.class.hashCode(),
+        this.m_fittings.hashCode());
+  }
+}
@@ -0,0 +1,150 @@
+package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
+
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+
+/**
+ * Embed the fitted behavior of each element into a feature vector of
+ * fixed length, so that the elements can be clustered without computing
+ * a distance matrix, which needs memory quadratic in the number of
+ * elements. For each run category and dimension pair, the fitted models
+ * of all elements are sampled at the same {@value #KNOTS} {@code x}
+ * coordinates, spread logarithmically (or linearly, if the range
+ * includes non-positive values) over the range of {@code x} coordinates
+ * of all the data. The sampled values are compressed with a signed
+ * logarithm, so that models of very different scale do not dominate the
+ * clustering.
+ */
+final class _BehaviorEmbedding {
+
+  /** the number of sampling points per category and dimension pair */
+  private static final int KNOTS = 16;
+
+  /** the forbidden constructor */
+  private _BehaviorEmbedding() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the sampling points for one run category and dimension pair
+   *
+   * @param fittings
+   *          the fittings
+   * @param category
+   *          the run category
+   * @param pair
+   *          the dimension pair
+   * @return the sampling points
+   */
+  private static final double[] __knots(
+      final DimensionRelationshipData[][][] fittings, final int category,
+      final int pair) {
+    final double[] knots;
+    IMatrix points;
+    double min, max, x;
+    int row, index;
+
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+    for (final DimensionRelationshipData[][] element : fittings) {
+      points = element[category][pair].matrix;
+      for (row = points.m(); (--row) >= 0;) {
+        x = points.getDouble(row, 0);
+        if ((x > Double.NEGATIVE_INFINITY)
+            && (x < Double.POSITIVE_INFINITY)) {
+          if (x < min) {
+            min = x;
+          }
+          if (x > max) {
+            max = x;
+          }
+        }
+      }
+    }
+
+    knots = new double[_BehaviorEmbedding.KNOTS];
+    if (min > max) {
+      return knots;
+    }
+    for (index = 0; index < knots.length; index++) {
+      if (min > 0d) {
+        knots[index] = Math.exp(Math.log(min) + ((index
+            * (Math.log(max) - Math.log(min))) / (knots.length - 1)));
+      } else {
+        knots[index] = (min
+            + ((index * (max - min)) / (knots.length - 1)));
+      }
+    }
+    return knots;
+  }
+
+  /**
+   * Compress a model value
+   *
+   * @param value
+   *          the value
+   * @return the compressed value
+   */
+  private static final double __compress(final double value) {
+    if (value != value) {
+      return 0d;
+    }
+    if (value >= Double.POSITIVE_INFINITY) {
+      return Math.log(Double.MAX_VALUE);
+    }
+    if (value <= Double.NEGATIVE_INFINITY) {
+      return (-Math.log(Double.MAX_VALUE));
+    }
+    return ((value < 0d) ? (-Math.log1p(-value)) : Math.log1p(value));
+  }
+
+  /**
+   * Embed the fittings of all elements
+   *
+   * @param fittings
+   *          the fittings, indexed by element, run category, and dimension
+   *          pair
+   * @return the matrix with one row of features per element
+   */
+  static final IMatrix _embed(
+      final DimensionRelationshipData[][][] fittings) {
+    final int elements, categories, pairs, columns;
+    final double[] data;
+    double[] knots, parameters;
+    ParametricUnaryFunction function;
+    IFittingResult fitting;
+    int category, pair, element, index, column;
+
+    elements = fittings.length;
+    if (elements <= 0) {
+      return new DoubleMatrix1D(new double[0], 0, 0);
+    }
+    categories = fittings[0].length;
+    pairs = ((categories > 0) ? fittings[0][0].length : 0);
+    columns = (categories * pairs * _BehaviorEmbedding.KNOTS);
+    data = new double[elements * columns];
+
+    column = 0;
+    for (category = 0; category < categories; category++) {
+      for (pair = 0; pair < pairs; pair++) {
+        knots = _BehaviorEmbedding.__knots(fittings, category, pair);
+        for (element = 0; element < elements; element++) {
+          fitting = fittings[element][category][pair].fitting;
+          function = fitting.getFittedFunction();
+          parameters = fitting.getFittedParametersRef();
+          for (index = 0; index < knots.length; index++) {
+            data[(element * columns) + column + index] = _BehaviorEmbedding
+                .__compress(function.value(knots[index], parameters));
+          }
+        }
+        column += knots.length;
+      }
+    }
+
+    return new DoubleMatrix1D(data, elements, columns);
+  }
+}
@@ -0,0 +1,71 @@
+package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
+
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+
+/**
+ * The models fitted to the runtime behavior of the elements to be
+ * clustered, indexed by element, run category, and dimension pair. This
+ * attribute is computed on the {@link
+ * org.optimizationBenchmarking.evaluator.attributes.OnlySharedInstances
+ * shared-instance view} of the data and only depends on the kind of
+ * elements to be clustered, the dimension transformations, the data
+ * reduction, and whether the fittings are replaced by their
+ * representative versions, but not on the number of clusters. Behavior
+ * clusterers which only differ in the number of clusters can therefore
+ * share the fittings.
+ */
+final class _BehaviorFittings
+    extends Attribute<IExperimentSet, DimensionRelationshipData[][][]> {
+
+  /** the clusterer which the fittings are computed for */
+  private final _BehaviorClusterer<?> m_owner;
+
+  /**
+   * create the fittings attribute
+   *
+   * @param owner
+   *          the clusterer which the fittings are computed for
+   */
+  _BehaviorFittings(final _BehaviorClusterer<?> owner) {
+    super(EAttributeType.TEMPORARILY_STORED);
+    this.m_owner = owner;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final DimensionRelationshipData[][][] compute(
+      final IExperimentSet data, final Logger logger) {
+    return this.m_owner._fit(data, logger);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    final _BehaviorFittings other;
+
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof _BehaviorFittings) {
+      other = ((_BehaviorFittings) o);
+      return ((this.m_owner.getClass() == other.m_owner.getClass())//
+          && (this.m_owner._hasSameTransformations(other.m_owner)));
+    }
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return HashUtils.combineHashes(//
+        HashUtils.combineHashes(_BehaviorFittings.class.hashCode(),
+            this.m_owner.getClass().hashCode()), //
+        this.m_owner._getTransformationsHashCode());
+  }
+}
@@ -0,0 +1,248 @@
+package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DistanceMatrixBuilderJob;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.StableSum;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
+
+/**
+ * The base class for distance matrix builders working on model fittings.
+ * Computing a distance requires evaluating the models of one element on
+ * the data of another one, which is expensive. Before the first distance
+ * is requested, all distances are therefore computed in parallel: The
+ * upper triangle of the matrix is split into square blocks of
+ * {@value #BLOCK} times {@value #BLOCK} element pairs, so that each task
+ * only touches the fittings of {@code 2*}{@value #BLOCK} elements. Each
+ * task has its own {@link StableSum accumulator} and writes into its own
+ * part of a single primitive array holding the upper triangle of the
+ * matrix. The distances are then handed to the matrix builder and the
+ * array is released once all elements have been released, so that it is
+ * not kept alongside the finished matrix. Requesting a distance after
+ * that causes an {@link IllegalStateException}. The fittings themselves
+ * may be {@link _BehaviorFittings cached} and are therefore never
+ * modified.
+ */
+abstract class _DistanceBuilder extends DistanceMatrixBuilderJob {
+
+  /** the number of elements per block side */
+  private static final int BLOCK = 32;
+
+  /**
+   * the data matrix, a private copy of the outer array, or {@code null}
+   * once all distances have been computed
+   */
+  private DimensionRelationshipData[][][] m_data;
+
+  /** the number of elements */
+  private final int m_count;
+
+  /** the number of blocks per side */
+  private final int m_blocksPerSide;
+
+  /**
+   * the upper triangle of the distance matrix, or {@code null} if not yet
+   * computed or already released
+   */
+  private double[] m_distances;
+
+  /** the number of elements released so far */
+  private int m_released;
+
+  /**
+   * create the distance builder
+   *
+   * @param data
+   *          the data
+   */
+  _DistanceBuilder(final DimensionRelationshipData[][][] data) {
+    super();
+    this.m_data = data.clone();
+    this.m_count = data.length;
+    this.m_blocksPerSide = ((data.length + _DistanceBuilder.BLOCK - 1)
+        / _DistanceBuilder.BLOCK);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final int getElementCount() {
+    return this.m_count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final EPrimitiveType getDistanceType() {
+    return EPrimitiveType.DOUBLE;
+  }
+
+  /**
+   * Compute the distance between two elements.
+   *
+   * @param dataA
+   *          the fittings of the first element
+   * @param dataB
+   *          the fittings of the second element
+   * @param sum
+   *          a sum which can be used as accumulator
+   * @return the distance
+   */
+  abstract double _distance(final DimensionRelationshipData[][] dataA,
+      final DimensionRelationshipData[][] dataB, final StableSum sum);
+
+  /**
+   * Append a distance to the matrix builder. By default, the distance is
+   * appended as {@code double}.
+   *
+   * @param appendTo
+   *          the destination
+   * @param distance
+   *          the distance
+   */
+  void _append(final IAggregate appendTo, final double distance) {
+    appendTo.append(distance);
+  }
+
+  /**
+   * Get the index of a distance in the upper triangle
+   *
+   * @param row
+   *          the row
+   * @param column
+   *          the column, must be greater than {@code row}
+   * @return the index
+   */
+  private final int __index(final int row, final int column) {
+    return (((row * this.m_count) - ((row * (row + 1)) >>> 1))
+        + (column - row - 1));
+  }
+
+  /** Compute all the distances in parallel. */
+  @SuppressWarnings("unchecked")
+  private final void __computeDistances() {
+    final int blocksPerSide;
+    final double[] distances;
+    final Future<Void>[] futures;
+    int blockRow, blockColumn, index;
+
+    blocksPerSide = this.m_blocksPerSide;
+    distances = new double[(this.m_count * (this.m_count - 1)) >>> 1];
+    futures = new Future[(blocksPerSide * (blocksPerSide + 1)) >>> 1];
+
+    index = 0;
+    for (blockRow = 0; blockRow < blocksPerSide; blockRow++) {
+      for (blockColumn = blockRow; blockColumn < blocksPerSide;
+          blockColumn++) {
+        futures[index++] = Execute.parallel(
+            new __Block(blockRow, blockColumn, distances));
+      }
+    }
+
+    Execute.join(futures, new Void[futures.length], 0, false);
+    // the fittings are not needed anymore
+    this.m_data = null;
+    this.m_distances = distances;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void setDistance(final int i, final int j,
+      final IAggregate appendTo) {
+    final int row, column;
+
+    if (i == j) {
+      appendTo.append(0d);
+      return;
+    }
+
+    if (this.m_distances == null) {
+      if ((this.m_data == null) || (this.m_released > 0)) {
+        throw new IllegalStateException(//
+            "Distances cannot be requested after elements have been released."); //$NON-NLS-1$
+      }
+      this.__computeDistances();
+    }
+
+    if (i < j) {
+      row = i;
+      column = j;
+    } else {
+      row = j;
+      column = i;
+    }
+
+    this._append(appendTo, this.m_distances[this.__index(row, column)]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void releaseElement(final int i) {
+    if (this.m_data != null) {
+      this.m_data[i] = null;
+    }
+    // once all but one element have been released, all distances have
+    // been handed to the matrix builder
+    if ((++this.m_released) >= (this.m_count - 1)) {
+      this.m_distances = null;
+    }
+  }
+
+  /** the task computing one block of distances */
+  private final class __Block implements Callable<Void> {
+
+    /** the first row */
+    private final int m_rowStart;
+    /** the first column */
+    private final int m_columnStart;
+    /** the upper triangle of the distance matrix */
+    private final double[] m_distances;
+
+    /**
+     * create the block
+     *
+     * @param blockRow
+     *          the block row
+     * @param blockColumn
+     *          the block column
+     * @param distances
+     *          the upper triangle of the distance matrix
+     */
+    __Block(final int blockRow, final int blockColumn,
+        final double[] distances) {
+      super();
+      this.m_rowStart = (blockRow * _DistanceBuilder.BLOCK);
+      this.m_columnStart = (blockColumn * _DistanceBuilder.BLOCK);
+      this.m_distances = distances;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Void call() {
+      final DimensionRelationshipData[][][] data;
+      final StableSum sum;
+      final int rowEnd, columnEnd;
+      int row, column;
+
+      data = _DistanceBuilder.this.m_data;
+      sum = new StableSum();
+      rowEnd = Math.min(data.length,
+          (this.m_rowStart + _DistanceBuilder.BLOCK));
+      columnEnd = Math.min(data.length,
+          (this.m_columnStart + _DistanceBuilder.BLOCK));
+
+      for (row = this.m_rowStart; row < rowEnd; row++) {
+        for (column = Math.max(this.m_columnStart,
+            (row + 1)); column < columnEnd; column++) {
+          this.m_distances[_DistanceBuilder.this.__index(row,
+              column)] = _DistanceBuilder.this._distance(data[row],
+                  data[column], sum);
+        }
+      }
+
+      return null;
+    }
+  }
+}
@@ -1,21 +1,11 @@
 package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
 
-import java.util.Arrays;
-
 import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
-import org.optimizationBenchmarking.utils.math.matrix.impl.DistanceMatrixBuilderJob;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.StableSum;
-import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
 /** the distance matrix builder. */
-final class _DistanceBuilderSumMaxLog extends DistanceMatrixBuilderJob {
-
-  /** the data matrix */
-  private final DimensionRelationshipData[][][] m_data;
-
-  /** the sum */
-  private final StableSum m_sum;
+final class _DistanceBuilderSumMaxLog extends _DistanceBuilder {
 
   /**
    * create the distance builder
@@ -24,25 +14,14 @@ final class _DistanceBuilderSumMaxLog extends DistanceMatrixBuilderJob {
    *          the data
    */
   _DistanceBuilderSumMaxLog(final DimensionRelationshipData[][][] data) {
-    super();
-    this.m_data = data;
-    this.m_sum = new StableSum();
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  protected final int getElementCount() {
-    return this.m_data.length;
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  protected final EPrimitiveType getDistanceType() {
-    return EPrimitiveType.DOUBLE;
+    super(data);
   }
 
   /**
-   * Compute the distance between two dimension relationships.
+   * Compute the distance between two dimension relationships. The
+   * fitting of {@code b} is evaluated with the measure of {@code a} and
+   * compared to the quality of the fitting of {@code a} according to the
+   * same measure.
    *
    * @param a
    *          the first one
@@ -78,25 +57,23 @@ final class _DistanceBuilderSumMaxLog extends DistanceMatrixBuilderJob {
 
   /** {@inheritDoc} */
   @Override
-  protected final void setDistance(final int i, final int j,
-      final IAggregate appendTo) {
-    final StableSum sum;
+  final double _distance(final DimensionRelationshipData[][] dataA,
+      final DimensionRelationshipData[][] dataB, final StableSum sum) {
     double max, value;
-    DimensionRelationshipData[] dataB;
+    DimensionRelationshipData[] categoryB;
     DimensionRelationshipData b;
     int index1, index2;
 
-    sum = this.m_sum;
     sum.reset();
 
     index1 = (-1);
-    for (final DimensionRelationshipData[] dataA : this.m_data[i]) {
-      dataB = this.m_data[j][++index1];
+    for (final DimensionRelationshipData[] categoryA : dataA) {
+      categoryB = dataB[++index1];
       index2 = (-1);
 
       max = 0d;
-      for (final DimensionRelationshipData a : dataA) {
-        b = dataB[++index2];
+      for (final DimensionRelationshipData a : categoryA) {
+        b = categoryB[++index2];
         value = (Math.min(_DistanceBuilderSumMaxLog.__dist(a, b),
             _DistanceBuilderSumMaxLog.__dist(b, a)));
         if ((value < Double.POSITIVE_INFINITY) && (value > max)) {
@@ -106,24 +83,27 @@ final class _DistanceBuilderSumMaxLog extends DistanceMatrixBuilderJob {
       sum.append(max);
     }
 
-    if (sum.isInteger()) {
-      appendTo.append(sum.longValue());
-    } else {
-      appendTo.append(sum.doubleValue());
-    }
+    return sum.doubleValue();
   }
 
-  /** {@inheritDoc} */
+  /**
+   * Append a distance to the matrix builder: Integer sums, e.g., when all
+   * maxima are {@code 0}, are appended as {@code long}.
+   *
+   * @param appendTo
+   *          the destination
+   * @param distance
+   *          the distance
+   */
   @Override
-  protected final void releaseElement(final int i) {
-    DimensionRelationshipData[][] element;
-    int index;
+  final void _append(final IAggregate appendTo, final double distance) {
+    final long asLong;
 
-    element = this.m_data[i];
-    for (index = element.length; (--index) >= 0;) {
-      Arrays.fill(element[index], null);
-      element[index] = null;
+    asLong = ((long) distance);
+    if (asLong == distance) {
+      appendTo.append(asLong);
+    } else {
+      appendTo.append(distance);
     }
-    this.m_data[i] = null;
   }
 }
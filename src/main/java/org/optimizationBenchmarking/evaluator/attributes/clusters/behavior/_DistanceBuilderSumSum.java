@@ -1,21 +1,10 @@
 package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
 
-import java.util.Arrays;
-
 import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
-import org.optimizationBenchmarking.utils.math.matrix.impl.DistanceMatrixBuilderJob;
-import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.StableSum;
-import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
 /** the distance matrix builder. */
-final class _DistanceBuilderSumSum extends DistanceMatrixBuilderJob {
-
-  /** the data matrix */
-  private final DimensionRelationshipData[][][] m_data;
-
-  /** the sum aggregate */
-  private final StableSum m_sum;
+final class _DistanceBuilderSumSum extends _DistanceBuilder {
 
   /**
    * create the distance builder
@@ -24,25 +13,14 @@ final class _DistanceBuilderSumSum extends DistanceMatrixBuilderJob {
    *          the data
    */
   _DistanceBuilderSumSum(final DimensionRelationshipData[][][] data) {
-    super();
-    this.m_data = data;
-    this.m_sum = new StableSum();
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  protected final int getElementCount() {
-    return this.m_data.length;
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  protected final EPrimitiveType getDistanceType() {
-    return EPrimitiveType.DOUBLE;
+    super(data);
   }
 
   /**
-   * Compute the distance between two dimension relationships.
+   * Compute the distance between two dimension relationships. The
+   * fitting of {@code b} is evaluated with the measure of {@code a} and
+   * compared to the quality of the fitting of {@code a} according to the
+   * same measure.
    *
    * @param a
    *          the first one
@@ -78,27 +56,25 @@ final class _DistanceBuilderSumSum extends DistanceMatrixBuilderJob {
 
   /** {@inheritDoc} */
   @Override
-  protected final void setDistance(final int i, final int j,
-      final IAggregate appendTo) {
-    final StableSum sum;
-    DimensionRelationshipData[] dataB;
+  final double _distance(final DimensionRelationshipData[][] dataA,
+      final DimensionRelationshipData[][] dataB, final StableSum sum) {
+    DimensionRelationshipData[] categoryB;
     DimensionRelationshipData b;
     int index1, index2;
 
-    sum = this.m_sum;
     sum.reset();
     index1 = (-1);
-    for (final DimensionRelationshipData[] dataA : this.m_data[i]) {
-      dataB = this.m_data[j][++index1];
+    for (final DimensionRelationshipData[] categoryA : dataA) {
+      categoryB = dataB[++index1];
       index2 = (-1);
-      for (final DimensionRelationshipData a : dataA) {
-        b = dataB[++index2];
+      for (final DimensionRelationshipData a : categoryA) {
+        b = categoryB[++index2];
         sum.append(Math.min(_DistanceBuilderSumSum.__dist(a, b),
             _DistanceBuilderSumSum.__dist(b, a)));
       }
     }
 
-    appendTo.append(sum.doubleValue());
+    return sum.doubleValue();
   }
 
   // /** {@inheritDoc} */
@@ -125,18 +101,4 @@ final class _DistanceBuilderSumSum extends DistanceMatrixBuilderJob {
   //
   // return max;
   // }
-
-  /** {@inheritDoc} */
-  @Override
-  protected final void releaseElement(final int i) {
-    DimensionRelationshipData[][] element;
-    int index;
-
-    element = this.m_data[i];
-    for (index = element.length; (--index) >= 0;) {
-      Arrays.fill(element[index], null);
-      element[index] = null;
-    }
-    this.m_data[i] = null;
-  }
 }
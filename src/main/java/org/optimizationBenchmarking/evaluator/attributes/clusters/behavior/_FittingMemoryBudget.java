@@ -0,0 +1,160 @@
+package org.optimizationBenchmarking.evaluator.attributes.clusters.behavior;
+
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * Rough estimates of the memory needed by the stages of the behavior
+ * clustering. They are used to limit the number of elements whose models
+ * are fitted at the same time, so that the memory needed for the fitting
+ * stays within a fraction of the maximum heap size and the garbage which
+ * is left behind can be reclaimed by the normal operation of the garbage
+ * collector. The fittings of an element are kept until the clustering is
+ * done and reference the data they measure the quality on, so the memory
+ * they retain is estimated separately and reduces the budget for all
+ * later fittings.
+ */
+final class _FittingMemoryBudget {
+
+  /** the fraction of the maximum heap size to use */
+  private static final double HEAP_FRACTION = 0.5d;
+
+  /**
+   * the bytes needed per data point and fitting: two {@code double}
+   * coordinates in the data matrix, a weight, and the intermediate
+   * results of the fitting
+   */
+  private static final long BYTES_PER_POINT = 48L;
+
+  /** the bytes needed per fitting regardless of the data size */
+  private static final long BYTES_PER_FITTING = 2048L;
+
+  /**
+   * the bytes retained per data point by a finished fitting: two
+   * {@code double} coordinates in the data matrix and a weight of the
+   * quality measure
+   */
+  private static final long RETAINED_BYTES_PER_POINT = 24L;
+
+  /**
+   * the bytes retained per finished fitting regardless of the data size
+   */
+  private static final long RETAINED_BYTES_PER_FITTING = 512L;
+
+  /** the forbidden constructor */
+  private _FittingMemoryBudget() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the minimum number of elements whose models are fitted at the
+   * same time, regardless of the budget, so that the fitting can still
+   * use all processors if the elements are large
+   *
+   * @return the minimum number of elements fitted at the same time
+   */
+  static final int _getMinWaveWidth() {
+    return Math.max(1, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Get the total number of bytes the clustering may use
+   *
+   * @return the total number of bytes the clustering may use
+   */
+  static final long _getBudget() {
+    final long max;
+
+    max = Runtime.getRuntime().maxMemory();
+    if ((max <= 0L) || (max >= Long.MAX_VALUE)) {
+      return Long.MAX_VALUE;
+    }
+    return ((long) (max * _FittingMemoryBudget.HEAP_FRACTION));
+  }
+
+  /**
+   * Estimate the bytes needed by the distance matrix, which is built from
+   * blocks of distances computed in advance, i.e., each distance is
+   * stored twice for a while
+   *
+   * @param size
+   *          the number of elements
+   * @return the estimated number of bytes
+   */
+  static final long _estimateDistanceMatrix(final int size) {
+    return ((((((long) size) * (size - 1L)) >>> 1L) << 4L) + 64L);
+  }
+
+  /**
+   * Check whether the distance matrix for a given number of elements would
+   * take up more than half of the {@link #_getBudget() budget}
+   *
+   * @param size
+   *          the number of elements
+   * @return {@code true} if the distance matrix may not fit into memory,
+   *         {@code false} otherwise
+   */
+  static final boolean _isDistanceMatrixTooLarge(final int size) {
+    return (_FittingMemoryBudget._estimateDistanceMatrix(size) > //
+    (_FittingMemoryBudget._getBudget() >>> 1));
+  }
+
+  /**
+   * Estimate the bytes needed to fit the models of one element
+   *
+   * @param runs
+   *          the instance runs belonging to the element
+   * @param fittings
+   *          the number of fittings per instance runs set
+   * @return the estimated number of bytes
+   */
+  static final long _estimateFittings(final IInstanceRuns[] runs,
+      final int fittings) {
+    long points;
+
+    points = 0L;
+    for (final IInstanceRuns instanceRuns : runs) {
+      for (final IRun run : instanceRuns.getData()) {
+        points += run.m();
+      }
+    }
+    return (fittings * ((points * _FittingMemoryBudget.BYTES_PER_POINT)
+        + (runs.length * _FittingMemoryBudget.BYTES_PER_FITTING)));
+  }
+
+  /**
+   * Estimate the bytes retained by the finished fittings of one element
+   * until the clustering is done
+   *
+   * @param runs
+   *          the instance runs belonging to the element
+   * @param fittings
+   *          the number of fittings per instance runs set
+   * @param representative
+   *          are the fittings replaced by their
+   *          {@link DimensionRelationshipData#getRepresentative()
+   *          representative versions}?
+   * @return the estimated number of bytes
+   */
+  static final long _estimateRetained(final IInstanceRuns[] runs,
+      final int fittings, final boolean representative) {
+    long points, sum;
+
+    sum = 0L;
+    for (final IInstanceRuns instanceRuns : runs) {
+      points = 0L;
+      for (final IRun run : instanceRuns.getData()) {
+        points += run.m();
+      }
+      if (representative) {
+        points = Math.min(points,
+            DimensionRelationshipData.MAX_REPRESENTATIVE_POINTS);
+      }
+      sum += ((points * _FittingMemoryBudget.RETAINED_BYTES_PER_POINT)
+          + _FittingMemoryBudget.RETAINED_BYTES_PER_FITTING);
+    }
+    return (fittings * sum);
+  }
+}
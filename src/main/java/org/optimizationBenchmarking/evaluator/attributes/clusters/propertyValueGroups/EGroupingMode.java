@@ -34,16 +34,36 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    _Groups _groupLongs(final Number param, final Number[] data,
+    _Groups _groupLongs(final Number param, final long[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
-      return this._groupObjects(param, data, minGroups, maxGroups, buffer);
+      int count;
+
+      count = 0;
+      for (final _Group group : buffer) {
+        group.m_size = 1;
+        group.m_isUpperExclusive = false;
+        group.m_lower = group.m_upper = NumericalTypes
+            .valueOf(data[count++]);
+      }
+
+      return new _Groups(buffer, minGroups, maxGroups, this, null);
     }
 
     /** {@inheritDoc} */
     @Override
-    _Groups _groupDoubles(final Number param, final Number[] data,
+    _Groups _groupDoubles(final Number param, final double[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
-      return this._groupObjects(param, data, minGroups, maxGroups, buffer);
+      int count;
+
+      count = 0;
+      for (final _Group group : buffer) {
+        group.m_size = 1;
+        group.m_isUpperExclusive = false;
+        group.m_lower = group.m_upper = NumericalTypes
+            .valueOf(data[count++]);
+      }
+
+      return new _Groups(buffer, minGroups, maxGroups, this, null);
     }
   },
 
@@ -55,7 +75,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    final _Groups _groupLongs(final Number param, final Number[] data,
+    final _Groups _groupLongs(final Number param, final long[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       final long pl;
       _Groups best, current;
@@ -99,7 +119,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    final _Groups _groupDoubles(final Number param, final Number[] data,
+    final _Groups _groupDoubles(final Number param, final double[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       final double dl;
       _Groups best, current;
@@ -141,7 +161,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    final _Groups _groupLongs(final Number param, final Number[] data,
+    final _Groups _groupLongs(final Number param, final long[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       final long pl;
       _Groups best, current;
@@ -185,7 +205,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    final _Groups _groupDoubles(final Number param, final Number[] data,
+    final _Groups _groupDoubles(final Number param, final double[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       final double dl;
       _Groups best, current;
@@ -232,7 +252,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    _Groups _groupLongs(final Number param, final Number[] data,
+    _Groups _groupLongs(final Number param, final long[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       _Groups best, current;
 
@@ -253,7 +273,7 @@ public enum EGroupingMode {
 
     /** {@inheritDoc} */
     @Override
-    _Groups _groupDoubles(final Number param, final Number[] data,
+    _Groups _groupDoubles(final Number param, final double[] data,
         final int minGroups, final int maxGroups, final _Group[] buffer) {
       _Groups best, current;
 
@@ -306,7 +326,7 @@ public enum EGroupingMode {
    * @param param
    *          the parameter
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -327,7 +347,7 @@ public enum EGroupingMode {
    * @param param
    *          the parameter
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -336,7 +356,7 @@ public enum EGroupingMode {
    *          a multi-purpose buffer
    * @return the objects to group
    */
-  abstract _Groups _groupLongs(final Number param, final Number[] data,
+  abstract _Groups _groupLongs(final Number param, final long[] data,
       final int minGroups, final int maxGroups, final _Group[] buffer);
 
   /**
@@ -345,7 +365,7 @@ public enum EGroupingMode {
    * @param param
    *          the parameter
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -354,14 +374,14 @@ public enum EGroupingMode {
    *          a multi-purpose buffer
    * @return the objects to group
    */
-  abstract _Groups _groupDoubles(final Number param, final Number[] data,
+  abstract _Groups _groupDoubles(final Number param, final double[] data,
       final int minGroups, final int maxGroups, final _Group[] buffer);
 
   /**
    * @param power
    *          the power to group by
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -371,7 +391,7 @@ public enum EGroupingMode {
    * @return the objects to group
    */
   static _Groups _groupLongsByPowerRange(final long power,
-      final Number[] data, final int minGroups, final int maxGroups,
+      final long[] data, final int minGroups, final int maxGroups,
       final _Group[] buffer) {
 
     long prev, next, cur;
@@ -405,7 +425,7 @@ public enum EGroupingMode {
       minIndex = exclusiveMaxIndex;
 
       inner: for (;;) {
-        cur = data[exclusiveMaxIndex].longValue();
+        cur = data[exclusiveMaxIndex];
         if (cur < prev) {
           break inner;
         }
@@ -468,7 +488,7 @@ public enum EGroupingMode {
    * @param power
    *          the power to group by
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -478,7 +498,7 @@ public enum EGroupingMode {
    * @return the objects to group
    */
   static _Groups _groupDoublesByPowerRange(final double power,
-      final Number[] data, final int minGroups, final int maxGroups,
+      final double[] data, final int minGroups, final int maxGroups,
       final _Group[] buffer) {
     double prev, next, cur;
     long pwr;
@@ -515,7 +535,7 @@ public enum EGroupingMode {
       minIndex = exclusiveMaxIndex;
 
       inner: for (;;) {
-        cur = data[exclusiveMaxIndex].doubleValue();
+        cur = data[exclusiveMaxIndex];
         if (cur < prev) {
           break inner;
         }
@@ -594,7 +614,7 @@ public enum EGroupingMode {
    * @param range
    *          the range to group by
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -604,7 +624,7 @@ public enum EGroupingMode {
    * @return the objects to group
    */
   static _Groups _groupLongsByMultipleRange(final long range,
-      final Number[] data, final int minGroups, final int maxGroups,
+      final long[] data, final int minGroups, final int maxGroups,
       final _Group[] buffer) {
 
     long prev, next, cur;
@@ -616,9 +636,9 @@ public enum EGroupingMode {
       return null;
     }
 
-    cur = data[0].longValue();
+    cur = data[0];
     next = (cur / range);
-    prev = (data[data.length - 1].longValue() / range);
+    prev = (data[data.length - 1] / range);
 
     if (SaturatingAdd.INSTANCE.computeAsLong(//
         ((next > Long.MIN_VALUE) ? Math.abs(next) : Long.MAX_VALUE), //
@@ -653,7 +673,7 @@ public enum EGroupingMode {
       minIndex = exclusiveMaxIndex;
 
       inner: for (;;) {
-        cur = data[exclusiveMaxIndex].longValue();
+        cur = data[exclusiveMaxIndex];
         if (cur < prev) {
           break inner;
         }
@@ -709,7 +729,7 @@ public enum EGroupingMode {
    * @param range
    *          the range to group by
    * @param data
-   *          the data
+   *          the sorted data
    * @param minGroups
    *          the anticipated minimum number of groups
    * @param maxGroups
@@ -719,7 +739,7 @@ public enum EGroupingMode {
    * @return the objects to group
    */
   static _Groups _groupDoublesByMultipleRange(final double range,
-      final Number[] data, final int minGroups, final int maxGroups,
+      final double[] data, final int minGroups, final int maxGroups,
       final _Group[] buffer) {
     double prev, next, cur, span;
     long prevMul;
@@ -731,10 +751,9 @@ public enum EGroupingMode {
       return null;
     }
 
-    cur = data[0].doubleValue();
+    cur = data[0];
     prev = Div.INSTANCE.computeAsDouble(cur, range);
-    next = Div.INSTANCE
-        .computeAsDouble(data[data.length - 1].doubleValue(), range);
+    next = Div.INSTANCE.computeAsDouble(data[data.length - 1], range);
 
     if ((prev != prev) || //
         (next != next) || //
@@ -787,7 +806,7 @@ public enum EGroupingMode {
       minIndex = exclusiveMaxIndex;
 
       inner: for (;;) {
-        cur = data[exclusiveMaxIndex].longValue();
+        cur = ((long) (data[exclusiveMaxIndex]));
         if ((cur < prev) || (cur >= next)) {
           break inner;
         }
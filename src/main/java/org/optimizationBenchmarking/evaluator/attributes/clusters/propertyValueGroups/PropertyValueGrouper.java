@@ -16,6 +16,7 @@ import org.optimizationBenchmarking.evaluator.data.spec.IProperty;
 import org.optimizationBenchmarking.evaluator.data.spec.IPropertyValue;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.comparison.Compare;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
 import org.optimizationBenchmarking.utils.config.Configuration;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.math.NumericalTypes;
@@ -221,6 +222,72 @@ public final class PropertyValueGrouper
     return values;
   }
 
+  /**
+   * Get the sorted {@code long} values of a numerical property
+   *
+   * @param values
+   *          the values, all of which must be {@link Number}s
+   * @return the sorted values
+   */
+  private static final long[] __getLongs(final Object[] values) {
+    final long[] data;
+    int i;
+
+    i = values.length;
+    data = new long[i];
+    for (; (--i) >= 0;) {
+      data[i] = ((Number) (values[i])).longValue();
+    }
+    Arrays.sort(data);
+    return data;
+  }
+
+  /**
+   * Get the sorted {@code double} values of a numerical property
+   *
+   * @param values
+   *          the values, all of which must be {@link Number}s
+   * @return the sorted values
+   */
+  private static final double[] __getDoubles(final Object[] values) {
+    final double[] data;
+    int i;
+
+    i = values.length;
+    data = new double[i];
+    for (; (--i) >= 0;) {
+      data[i] = ((Number) (values[i])).doubleValue();
+    }
+    Arrays.sort(data);
+    return data;
+  }
+
+  /**
+   * Check whether a property value belongs to a distinct group created
+   * from a primitive number. This compares the primitive values instead of
+   * the boxed objects, as the number boxed for the group may be of a
+   * different type than the property value.
+   *
+   * @param group
+   *          the group
+   * @param value
+   *          the property value
+   * @param isLong
+   *          were the groups created from {@code long} values?
+   * @return {@code true} if the value belongs to the group, {@code false}
+   *         otherwise
+   */
+  private static final boolean __isDistinctValue(final _Group group,
+      final Object value, final boolean isLong) {
+    if (isLong) {
+      return (((Number) (group.m_lower)).longValue() == ((Number) (value))
+          .longValue());
+    }
+    return EComparison.EQUAL.compare(
+        ((Number) (group.m_lower)).doubleValue(),
+        ((Number) (value)).doubleValue());
+  }
+
   /**
    * create the message
    *
@@ -259,11 +326,11 @@ public final class PropertyValueGrouper
     final IExperimentSet set;
     final PropertyValueGroups result;
     Object[] objData;
-    Number[] numberData;
     _Group[] buffer;
     int index, type;
+    boolean isLong, isDistinct, contains;
     String message;
-    Object value;
+    Object value, original;
     DataSelection unspecified;
     IParameterValue pv;
 
@@ -300,34 +367,52 @@ public final class PropertyValueGrouper
 
     // get groupings
 
+    isLong = ((type & NumericalTypes.IS_LONG) != 0);
     if (type == 0) {
       groups = this.m_groupingMode._groupObjects(this.m_groupingParameter,
           objData, this.m_minGroups, this.m_maxGroups, buffer);
     } else {
-      numberData = new Number[objData.length];
-      System.arraycopy(objData, 0, numberData, 0, objData.length);
-      if ((type & NumericalTypes.IS_LONG) != 0) {
+      // numbers are grouped based on sorted primitive arrays
+      if (isLong) {
         groups = this.m_groupingMode._groupLongs(this.m_groupingParameter,
-            numberData, this.m_minGroups, this.m_maxGroups, buffer);
+            PropertyValueGrouper.__getLongs(objData), this.m_minGroups,
+            this.m_maxGroups, buffer);
       } else {
         groups = this.m_groupingMode._groupDoubles(
-            this.m_groupingParameter, numberData, this.m_minGroups,
+            this.m_groupingParameter,
+            PropertyValueGrouper.__getDoubles(objData), this.m_minGroups,
             this.m_maxGroups, buffer);
       }
-      numberData = null;
     }
     buffer = null;
 
     // now compile data
     set = data.getOwner().getOwner();
 
+    isDistinct = ((type != 0)
+        && (groups.m_groupingMode == EGroupingMode.DISTINCT));
     for (final _Group group : groups.m_groups) {
       group.m_selection = new DataSelection(set);
+      original = null;
       for (final Object object : objData) {
-        if (group._contains(object)) {
+        if (isDistinct) {
+          contains = PropertyValueGrouper.__isDistinctValue(group, object,
+              isLong);
+        } else {
+          contains = group._contains(object);
+        }
+        if (contains) {
           group.m_selection.addPropertyValue(data, object);
+          if (original == null) {
+            original = object;
+          }
         }
       }
+      if (isDistinct && (original != null)) {
+        // use the original value object instead of the boxed number, but
+        // only after all values have been checked against the group
+        group.m_lower = group.m_upper = original;
+      }
     }
     objData = null;
 
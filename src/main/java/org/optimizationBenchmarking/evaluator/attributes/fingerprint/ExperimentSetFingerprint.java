@@ -0,0 +1,133 @@
+package org.optimizationBenchmarking.evaluator.attributes.fingerprint;
+
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstance;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IProperty;
+import org.optimizationBenchmarking.evaluator.data.spec.IPropertySetting;
+import org.optimizationBenchmarking.evaluator.data.spec.IPropertyValue;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * The {@link Fingerprint fingerprint} of an experiment set. It covers the
+ * dimensions, the features and parameters, the feature settings of all
+ * instances, the parameter settings of all experiments, and the
+ * {@link InstanceRunsFingerprint fingerprints of all instance runs}. The
+ * latter are computed in parallel and combined hierarchically, i.e., into
+ * one fingerprint per experiment first, so the runs are read only once,
+ * even if the fingerprints of the instance runs are needed as well.
+ */
+public final class ExperimentSetFingerprint
+    extends Attribute<IExperimentSet, Fingerprint> {
+
+  /**
+   * The globally shared instance of the
+   * {@link ExperimentSetFingerprint} attribute
+   */
+  public static final ExperimentSetFingerprint INSTANCE = new ExperimentSetFingerprint();
+
+  /** create the instance of this attribute */
+  private ExperimentSetFingerprint() {
+    super(EAttributeType.PERMANENTLY_STORED);
+  }
+
+  /**
+   * Append a property setting to a fingerprint. For each property, the
+   * value contained in the setting is appended, or {@code null} if there
+   * is none.
+   *
+   * @param builder
+   *          the fingerprint builder
+   * @param setting
+   *          the setting
+   * @param properties
+   *          the properties
+   */
+  private static final void __appendSetting(
+      final _FingerprintBuilder builder, final IPropertySetting setting,
+      final ArrayListView<? extends IProperty> properties) {
+    outer: for (final IProperty property : properties) {
+      for (final IPropertyValue value : property.getData()) {
+        if (setting.contains(value)) {
+          builder._append(String.valueOf(value.getValue()));
+          continue outer;
+        }
+      }
+      builder._append((String) null);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @SuppressWarnings("unchecked")
+  @Override
+  protected final Fingerprint compute(final IExperimentSet data,
+      final Logger logger) {
+    final ArrayListView<? extends IExperiment> experiments;
+    final Future<Fingerprint>[] futures;
+    final Fingerprint[] runs;
+    final _FingerprintBuilder builder;
+    _FingerprintBuilder experimentBuilder;
+    int count, index;
+
+    experiments = data.getData();
+    count = 0;
+    for (final IExperiment experiment : experiments) {
+      count += experiment.getData().size();
+    }
+    futures = new Future[count];
+    count = 0;
+    for (final IExperiment experiment : experiments) {
+      for (final IInstanceRuns instanceRuns : experiment.getData()) {
+        futures[count++] = Execute.parallel(
+            InstanceRunsFingerprint.INSTANCE.getter(instanceRuns, logger));
+      }
+    }
+
+    builder = new _FingerprintBuilder();
+    for (final IDimension dimension : data.getDimensions().getData()) {
+      builder._append(dimension.getName());
+      builder._append(dimension.getDimensionType().name());
+      builder._append(dimension.getDataType().name());
+    }
+    for (final IProperty feature : data.getFeatures().getData()) {
+      builder._append(feature.getName());
+    }
+    for (final IProperty parameter : data.getParameters().getData()) {
+      builder._append(parameter.getName());
+    }
+    builder._append(data.getInstances().getData().size());
+    for (final IInstance instance : data.getInstances().getData()) {
+      builder._append(instance.getName());
+      ExperimentSetFingerprint.__appendSetting(builder,
+          instance.getFeatureSetting(), data.getFeatures().getData());
+    }
+
+    runs = new Fingerprint[futures.length];
+    Execute.join(futures, runs, 0, false);
+
+    builder._append(experiments.size());
+    count = 0;
+    for (final IExperiment experiment : experiments) {
+      experimentBuilder = new _FingerprintBuilder();
+      experimentBuilder._append(experiment.getName());
+      ExperimentSetFingerprint.__appendSetting(experimentBuilder,
+          experiment.getParameterSetting(),
+          data.getParameters().getData());
+      experimentBuilder._append(experiment.getData().size());
+      for (index = experiment.getData().size(); (--index) >= 0;) {
+        experimentBuilder._append(runs[count++]);
+      }
+      builder._append(experimentBuilder._create());
+    }
+
+    return builder._create();
+  }
+}
@@ -0,0 +1,100 @@
+package org.optimizationBenchmarking.evaluator.attributes.fingerprint;
+
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+
+/**
+ * A 128 bit fingerprint of the contents of a data element. Unlike
+ * {@link Object#hashCode()}, it only depends on the data itself and is
+ * therefore the same in every process.
+ */
+public final class Fingerprint {
+
+  /** the upper 64 bits */
+  private final long m_high;
+  /** the lower 64 bits */
+  private final long m_low;
+
+  /**
+   * create the fingerprint
+   *
+   * @param high
+   *          the upper 64 bits
+   * @param low
+   *          the lower 64 bits
+   */
+  Fingerprint(final long high, final long low) {
+    super();
+    this.m_high = high;
+    this.m_low = low;
+  }
+
+  /**
+   * Get the upper 64 bits of the fingerprint
+   *
+   * @return the upper 64 bits
+   */
+  public final long getHigh() {
+    return this.m_high;
+  }
+
+  /**
+   * Get the lower 64 bits of the fingerprint
+   *
+   * @return the lower 64 bits
+   */
+  public final long getLow() {
+    return this.m_low;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return HashUtils.combineHashes(HashUtils.hashCode(this.m_high),
+        HashUtils.hashCode(this.m_low));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    final Fingerprint other;
+
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof Fingerprint) {
+      other = ((Fingerprint) o);
+      return ((this.m_high == other.m_high) && (this.m_low == other.m_low));
+    }
+    return false;
+  }
+
+  /**
+   * Append a hexadecimal representation of a {@code long} with leading
+   * zeros
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination
+   */
+  private static final void __appendHex(final long value,
+      final StringBuilder dest) {
+    int shift;
+
+    for (shift = 60; shift >= 0; shift -= 4) {
+      dest.append(Character.forDigit(((int) ((value >>> shift) & 0xfL)),
+          16));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    final StringBuilder builder;
+
+    builder = new StringBuilder(32);
+    Fingerprint.__appendHex(this.m_high, builder);
+    Fingerprint.__appendHex(this.m_low, builder);
+    return builder.toString();
+  }
+}
@@ -0,0 +1,71 @@
+package org.optimizationBenchmarking.evaluator.attributes.fingerprint;
+
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+
+/**
+ * The {@link Fingerprint fingerprint} of a set of instance runs. It
+ * covers the name of the instance and all data points of all runs. Each
+ * value is read with the primitive type of its dimension, so no
+ * precision is lost.
+ */
+public final class InstanceRunsFingerprint
+    extends Attribute<IInstanceRuns, Fingerprint> {
+
+  /**
+   * The globally shared instance of the
+   * {@link InstanceRunsFingerprint} attribute
+   */
+  public static final InstanceRunsFingerprint INSTANCE = new InstanceRunsFingerprint();
+
+  /** create the instance of this attribute */
+  private InstanceRunsFingerprint() {
+    super(EAttributeType.PERMANENTLY_STORED);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final Fingerprint compute(final IInstanceRuns data,
+      final Logger logger) {
+    final ArrayListView<? extends IDimension> dimensions;
+    final ArrayListView<? extends IRun> runs;
+    final _FingerprintBuilder builder;
+    final boolean[] isInteger;
+    int row, column, columns;
+
+    dimensions = data.getInstance().getOwner().getOwner().getDimensions()
+        .getData();
+    isInteger = new boolean[dimensions.size()];
+    for (final IDimension dimension : dimensions) {
+      isInteger[dimension.getIndex()] = dimension.getDataType()
+          .isInteger();
+    }
+
+    builder = new _FingerprintBuilder();
+    builder._append(data.getInstance().getName());
+    runs = data.getData();
+    builder._append(runs.size());
+    for (final IRun run : runs) {
+      columns = run.n();
+      builder._append(run.m());
+      builder._append(columns);
+      for (row = 0; row < run.m(); row++) {
+        for (column = 0; column < columns; column++) {
+          if (isInteger[column]) {
+            builder._append(run.getLong(row, column));
+          } else {
+            builder._append(run.getDouble(row, column));
+          }
+        }
+      }
+    }
+
+    return builder._create();
+  }
+}
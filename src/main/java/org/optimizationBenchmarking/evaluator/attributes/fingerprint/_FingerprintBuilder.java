@@ -0,0 +1,128 @@
+package org.optimizationBenchmarking.evaluator.attributes.fingerprint;
+
+/**
+ * A streaming builder for 128 bit {@link Fingerprint fingerprints}. It
+ * maintains two 64 bit lanes which are updated with different rotations
+ * and multipliers and which feed into each other, and mixes both lanes
+ * thoroughly at the end. This is not a cryptographic hash, but accidental
+ * collisions are extremely unlikely.
+ */
+final class _FingerprintBuilder {
+
+  /** the first multiplier */
+  private static final long MUL_1 = 0x9e3779b97f4a7c15L;
+  /** the second multiplier */
+  private static final long MUL_2 = 0xc2b2ae3d27d4eb4fL;
+
+  /** the upper lane */
+  private long m_high;
+  /** the lower lane */
+  private long m_low;
+  /** the number of appended values */
+  private long m_count;
+
+  /** create the fingerprint builder */
+  _FingerprintBuilder() {
+    super();
+    this.m_high = 0x6a09e667f3bcc908L;
+    this.m_low = 0xbb67ae8584caa73bL;
+  }
+
+  /**
+   * Append a {@code long} value
+   *
+   * @param value
+   *          the value
+   */
+  final void _append(final long value) {
+    this.m_low = (Long.rotateLeft((this.m_low ^ value), 29)
+        * _FingerprintBuilder.MUL_1);
+    this.m_high = ((Long.rotateLeft((this.m_high + value), 41)
+        ^ this.m_low) * _FingerprintBuilder.MUL_2);
+    this.m_count++;
+  }
+
+  /**
+   * Append a {@code double} value
+   *
+   * @param value
+   *          the value
+   */
+  final void _append(final double value) {
+    this._append(Double.doubleToLongBits(value));
+  }
+
+  /**
+   * Append a string, or {@code null}
+   *
+   * @param string
+   *          the string
+   */
+  final void _append(final String string) {
+    final int length;
+    long value;
+    int index;
+
+    if (string == null) {
+      this._append(-1L);
+      return;
+    }
+
+    length = string.length();
+    this._append(length);
+    value = 0L;
+    for (index = 0; index < length; index++) {
+      value = ((value << 16) | string.charAt(index));
+      if ((index & 3) == 3) {
+        this._append(value);
+        value = 0L;
+      }
+    }
+    if ((length & 3) != 0) {
+      this._append(value);
+    }
+  }
+
+  /**
+   * Append a fingerprint
+   *
+   * @param fingerprint
+   *          the fingerprint
+   */
+  final void _append(final Fingerprint fingerprint) {
+    this._append(fingerprint.getHigh());
+    this._append(fingerprint.getLow());
+  }
+
+  /**
+   * Mix the bits of a {@code long} thoroughly
+   *
+   * @param value
+   *          the value
+   * @return the mixed value
+   */
+  private static final long __finish(final long value) {
+    long result;
+
+    result = value;
+    result ^= (result >>> 33);
+    result *= 0xff51afd7ed558ccdL;
+    result ^= (result >>> 33);
+    result *= 0xc4ceb9fe1a85ec53L;
+    result ^= (result >>> 33);
+    return result;
+  }
+
+  /**
+   * Create the fingerprint of all values appended so far
+   *
+   * @return the fingerprint
+   */
+  final Fingerprint _create() {
+    final long high, low;
+
+    high = _FingerprintBuilder.__finish(this.m_high ^ this.m_count);
+    low = _FingerprintBuilder.__finish(this.m_low + high);
+    return new Fingerprint(_FingerprintBuilder.__finish(high + low), low);
+  }
+}
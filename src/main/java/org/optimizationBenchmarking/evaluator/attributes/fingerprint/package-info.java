@@ -0,0 +1,6 @@
+/**
+ * Fingerprints over the contents of data elements, which can be used to
+ * check cheaply whether two data elements hold the same data, e.g., as
+ * keys for persistent caches.
+ */
+package org.optimizationBenchmarking.evaluator.attributes.fingerprint;
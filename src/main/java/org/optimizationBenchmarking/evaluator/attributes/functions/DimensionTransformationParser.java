@@ -15,9 +15,6 @@ public final class DimensionTransformationParser
   /** the serial version uid */
   private static final long serialVersionUID = 1L;
 
-  /** the dimension */
-  private transient IDimension m_dimension;
-
   /**
    * create the dimension transformation parser
    *
@@ -32,12 +29,10 @@ public final class DimensionTransformationParser
   /** {@inheritDoc} */
   @Override
   final DimensionTransformation _createTransformation(
-      final UnaryFunction function) {
+      final UnaryFunction function, final _ParseState state) {
     final IDimension dim;
 
-    dim = this.m_dimension;
-    this.m_dimension = null;
-    this.m_unary = null;
+    dim = state.m_dimension;
 
     if (dim == null) {
       throw new IllegalArgumentException(//
@@ -49,23 +44,24 @@ public final class DimensionTransformationParser
   /** {@inheritDoc} */
   @Override
   final UnaryFunction _resolveUnknownName(final String name,
-      final FunctionBuilder<UnaryFunction> builder) {
+      final FunctionBuilder<UnaryFunction> builder,
+      final _ParseState state) {
     IDimension dim;
 
-    dim = this.m_experimentSet.getDimensions().find(name);
+    dim = this._findDimension(name);
     if (dim != null) {
-      if (this.m_dimension == null) {
-        this.m_dimension = dim;
-        this.m_unary = builder.parameter(0);
+      if (state.m_dimension == null) {
+        state.m_dimension = dim;
+        state.m_unary = builder.parameter(0);
       } else {
-        if (!(Compare.equals(this.m_dimension, dim))) {
+        if (!(Compare.equals(state.m_dimension, dim))) {
           throw new IllegalArgumentException(//
               "A dimension transformation can only have one source dimension, but you specified " //$NON-NLS-1$
-                  + this.m_dimension + " and " + dim);//$NON-NLS-1$
+                  + state.m_dimension + " and " + dim);//$NON-NLS-1$
         }
       }
 
-      return this.m_unary;
+      return state.m_unary;
     }
 
     return null;
@@ -54,12 +54,8 @@ public final class NamedParameterTransformationParser
   /** {@inheritDoc} */
   @Override
   final Transformation _createTransformation(
-      final UnaryFunction function) {
-    final UnaryFunction func;
-
-    func = this.m_unary;
-    this.m_unary = null;
-    if (func == null) {
+      final UnaryFunction function, final _ParseState state) {
+    if (state.m_unary == null) {
       throw new IllegalArgumentException(//
           "You must specify and use the source of a named source transformation."); //$NON-NLS-1$
     }
@@ -69,13 +65,14 @@ public final class NamedParameterTransformationParser
   /** {@inheritDoc} */
   @Override
   final UnaryFunction _resolveUnknownName(final String name,
-      final FunctionBuilder<UnaryFunction> builder) {
+      final FunctionBuilder<UnaryFunction> builder,
+      final _ParseState state) {
 
     if (this.m_parameterName.equalsIgnoreCase(TextUtils.prepare(name))) {
-      if (this.m_unary == null) {
-        this.m_unary = builder.parameter(0);
+      if (state.m_unary == null) {
+        state.m_unary = builder.parameter(0);
       }
-      return this.m_unary;
+      return state.m_unary;
     }
 
     return null;
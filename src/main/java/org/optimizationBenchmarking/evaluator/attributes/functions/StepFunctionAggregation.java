@@ -0,0 +1,383 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+
+/**
+ * Aggregate a set of step functions, each given as a two-column matrix of
+ * points of the form {@code (x, y)} sorted along the {@code x} axis, into
+ * a single step function. The value of a step function at a given
+ * {@code x} coordinate is the {@code y} value of its last point not after
+ * {@code x}, or a start value if there is no such point.
+ * <p>
+ * The step functions are merged with a {@code k}-way merge: A heap holds
+ * one cursor per function, ordered by the {@code x} coordinate of its next
+ * point. At each {@code x} coordinate, only the cursors of the functions
+ * which change there are advanced and only their slots in an
+ * {@link _IncrementalAggregate incremental aggregate} are updated. The
+ * merge therefore needs {@code O(log k)} steps per point plus the cost of
+ * updating the aggregate, and, apart from the result, only {@code O(k)}
+ * memory, instead of re-visiting all {@code k} functions at every
+ * {@code x} coordinate.
+ * </p>
+ * <p>
+ * The result has the same value as the matrix iteration at every
+ * {@code x} coordinate, but a point which does not change the aggregated
+ * value is only kept if it ends a constant segment. The result may
+ * therefore have fewer rows. The merge can be {@link #setEnabled(boolean)
+ * disabled}, in which case the {@link
+ * org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.ECDF
+ * ECDF} and the {@link
+ * org.optimizationBenchmarking.evaluator.attributes.functions.aggregation2D.Aggregation2D
+ * aggregation 2D} iterate over the step functions as before.
+ * </p>
+ */
+public final class StepFunctionAggregation {
+
+  /** should step functions be merged instead of iterated over? */
+  private static volatile boolean s_enabled = true;
+
+  /** the step functions */
+  private final IMatrix[] m_matrices;
+  /** the next row of each function */
+  private final int[] m_rows;
+  /** the end row (exclusive) of each function */
+  private final int[] m_ends;
+  /** the heap of function indexes, ordered by their next {@code x} */
+  private final int[] m_heap;
+  /** the number of functions in the heap */
+  private int m_heapSize;
+  /** is the {@code x} axis increasing? */
+  private final boolean m_isXIncreasing;
+
+  /**
+   * create the aggregation
+   *
+   * @param matrices
+   *          the step functions
+   * @param isXIncreasing
+   *          is the {@code x} axis increasing?
+   * @param skipNaNYAtEnds
+   *          should leading and trailing points with {@code NaN} as
+   *          {@code y} value be ignored?
+   */
+  private StepFunctionAggregation(final IMatrix[] matrices,
+      final boolean isXIncreasing, final boolean skipNaNYAtEnds) {
+    super();
+
+    IMatrix matrix;
+    int index, row, end;
+
+    this.m_matrices = matrices;
+    this.m_isXIncreasing = isXIncreasing;
+    this.m_rows = new int[matrices.length];
+    this.m_ends = new int[matrices.length];
+    this.m_heap = new int[matrices.length];
+
+    for (index = 0; index < matrices.length; index++) {
+      matrix = matrices[index];
+      row = 0;
+      end = matrix.m();
+
+      // skip leading and trailing points without value
+      findStart: for (; row < end; row++) {
+        if (!(StepFunctionAggregation.__isMissing(matrix, row,
+            skipNaNYAtEnds))) {
+          break findStart;
+        }
+      }
+      findEnd: for (; end > row; end--) {
+        if (!(StepFunctionAggregation.__isMissing(matrix, (end - 1),
+            skipNaNYAtEnds))) {
+          break findEnd;
+        }
+      }
+
+      this.m_rows[index] = row;
+      this.m_ends[index] = end;
+      if (row < end) {
+        this.m_heap[this.m_heapSize] = index;
+        this.__siftUp(this.m_heapSize++);
+      }
+    }
+  }
+
+  /**
+   * Check whether a point of a step function is missing
+   *
+   * @param matrix
+   *          the matrix
+   * @param row
+   *          the row
+   * @param checkY
+   *          should a {@code NaN} {@code y} value count as missing, too?
+   * @return {@code true} if the point is missing, {@code false} otherwise
+   */
+  private static final boolean __isMissing(final IMatrix matrix,
+      final int row, final boolean checkY) {
+    final double x, y;
+
+    x = matrix.getDouble(row, 0);
+    if (x != x) {
+      return true;
+    }
+    if (checkY) {
+      y = matrix.getDouble(row, 1);
+      return (y != y);
+    }
+    return false;
+  }
+
+  /**
+   * Get the next {@code x} coordinate of a given step function
+   *
+   * @param index
+   *          the index of the step function
+   * @return the {@code x} coordinate of its next point
+   */
+  private final double __key(final int index) {
+    return this.m_matrices[index].getDouble(this.m_rows[index], 0);
+  }
+
+  /**
+   * Does the {@code x} coordinate {@code a} come before {@code b}?
+   *
+   * @param a
+   *          the first coordinate
+   * @param b
+   *          the second coordinate
+   * @return {@code true} if {@code a} comes before {@code b}
+   */
+  private final boolean __before(final double a, final double b) {
+    return (this.m_isXIncreasing ? (a < b) : (a > b));
+  }
+
+  /**
+   * move an element of the heap up
+   *
+   * @param position
+   *          the position of the element
+   */
+  private final void __siftUp(final int position) {
+    final int[] heap;
+    final int element;
+    final double key;
+    int current, parent;
+
+    heap = this.m_heap;
+    element = heap[position];
+    key = this.__key(element);
+    current = position;
+
+    siftUp: while (current > 0) {
+      parent = ((current - 1) >>> 1);
+      if (!(this.__before(key, this.__key(heap[parent])))) {
+        break siftUp;
+      }
+      heap[current] = heap[parent];
+      current = parent;
+    }
+    heap[current] = element;
+  }
+
+  /**
+   * move an element of the heap down
+   *
+   * @param position
+   *          the position of the element
+   */
+  private final void __siftDown(final int position) {
+    final int[] heap;
+    final int element, size;
+    final double key;
+    int current, child;
+
+    heap = this.m_heap;
+    size = this.m_heapSize;
+    element = heap[position];
+    key = this.__key(element);
+    current = position;
+
+    siftDown: for (;;) {
+      child = ((current << 1) + 1);
+      if (child >= size) {
+        break siftDown;
+      }
+      if (((child + 1) < size) && this.__before(this.__key(heap[child + 1]),
+          this.__key(heap[child]))) {
+        child++;
+      }
+      if (!(this.__before(this.__key(heap[child]), key))) {
+        break siftDown;
+      }
+      heap[current] = heap[child];
+      current = child;
+    }
+    heap[current] = element;
+  }
+
+  /**
+   * Perform the aggregation
+   *
+   * @param startValue
+   *          the value of a step function before its first point
+   * @param nanReplacement
+   *          the replacement for {@code NaN} values on the {@code y}
+   *          axis, {@code NaN} for no replacement
+   * @param parameter
+   *          the statistical parameter
+   * @param yTransform
+   *          the transformation to apply to the aggregated values, or
+   *          {@code null} if none is needed
+   * @return the aggregated step function
+   */
+  private final IMatrix __aggregate(final double startValue,
+      final double nanReplacement, final StatisticalParameter parameter,
+      final UnaryFunction yTransform) {
+    final _IncrementalAggregate aggregate;
+    final int[] heap;
+    double[] result;
+    IMatrix matrix;
+    double x, y, value;
+    int index, row, end, size;
+
+    aggregate = _IncrementalAggregate._create(parameter,
+        this.m_matrices.length, startValue);
+    heap = this.m_heap;
+    result = new double[64];
+    size = 0;
+
+    while (this.m_heapSize > 0) {
+      x = this.__key(heap[0]);
+
+      // advance all the step functions which change at x
+      do {
+        index = heap[0];
+        matrix = this.m_matrices[index];
+        row = this.m_rows[index];
+        end = this.m_ends[index];
+
+        // if a function has several points at x, the last one counts
+        y = Double.NaN;
+        sameX: for (; row < end; row++) {
+          value = matrix.getDouble(row, 0);
+          if (value != value) {
+            continue sameX;
+          }
+          if (value != x) {
+            break sameX;
+          }
+          y = matrix.getDouble(row, 1);
+        }
+        if (y != y) {
+          y = nanReplacement;
+        }
+        aggregate._set(index, y);
+
+        this.m_rows[index] = row;
+        if (row >= end) {
+          heap[0] = heap[--this.m_heapSize];
+        }
+        if (this.m_heapSize > 0) {
+          this.__siftDown(0);
+        }
+      } while ((this.m_heapSize > 0) && (this.__key(heap[0]) == x));
+
+      value = aggregate._get();
+      if (yTransform != null) {
+        value = yTransform.computeAsDouble(value);
+      }
+
+      // Points which do not change the value are only needed at the end
+      // of a constant segment, so we just move the last one.
+      if ((size >= 4) && EComparison.EQUAL.compare(result[size - 1], value)
+          && EComparison.EQUAL.compare(result[size - 3], value)) {
+        result[size - 2] = x;
+      } else {
+        if (size >= result.length) {
+          result = Arrays.copyOf(result, (size << 1));
+        }
+        result[size++] = x;
+        result[size++] = value;
+      }
+    }
+
+    if (size < result.length) {
+      result = Arrays.copyOf(result, size);
+    }
+    return new DoubleMatrix1D(result, (size >>> 1), 2);
+  }
+
+  /**
+   * Should the ECDF and the aggregation 2D merge step functions with this
+   * class instead of iterating over them? The default is {@code true}.
+   *
+   * @return {@code true} if step functions are merged, {@code false} if
+   *         they are iterated over
+   */
+  public static final boolean isEnabled() {
+    return StepFunctionAggregation.s_enabled;
+  }
+
+  /**
+   * Set whether the ECDF and the aggregation 2D should merge step
+   * functions with this class instead of iterating over them
+   *
+   * @param enabled
+   *          {@code true} if step functions should be merged,
+   *          {@code false} if they should be iterated over
+   */
+  public static final void setEnabled(final boolean enabled) {
+    StepFunctionAggregation.s_enabled = enabled;
+  }
+
+  /**
+   * Aggregate a set of step functions. Each step function is a matrix
+   * whose first column holds the {@code x} coordinates and whose second
+   * column holds the {@code y} values. Points whose {@code x} coordinate is
+   * {@code NaN} are ignored.
+   *
+   * @param matrices
+   *          the step functions
+   * @param isXIncreasing
+   *          {@code true} if the {@code x} coordinates increase along the
+   *          rows of the matrices, {@code false} if they decrease
+   * @param startValue
+   *          the value of a step function before its first point
+   * @param skipNaNYAtEnds
+   *          should leading and trailing points with {@code NaN} as
+   *          {@code y} value be ignored?
+   * @param nanReplacement
+   *          the replacement for {@code NaN} values on the {@code y}
+   *          axis, {@code NaN} for no replacement
+   * @param parameter
+   *          the statistical parameter to compute over the values of the
+   *          step functions at each {@code x} coordinate
+   * @param yTransform
+   *          the transformation to apply to the aggregated values, or
+   *          {@code null} if none is needed
+   * @return the aggregated step function
+   */
+  public static final IMatrix aggregate(final IMatrix[] matrices,
+      final boolean isXIncreasing, final double startValue,
+      final boolean skipNaNYAtEnds, final double nanReplacement,
+      final StatisticalParameter parameter,
+      final UnaryFunction yTransform) {
+    if (matrices == null) {
+      throw new IllegalArgumentException(//
+          "Matrices to aggregate cannot be null."); //$NON-NLS-1$
+    }
+    if (parameter == null) {
+      throw new IllegalArgumentException(//
+          "Statistical parameter for aggregation cannot be null."); //$NON-NLS-1$
+    }
+    return new StepFunctionAggregation(matrices, isXIncreasing,
+        skipNaNYAtEnds).__aggregate(startValue, nanReplacement, parameter,
+            yTransform);
+  }
+}
@@ -1,11 +1,28 @@
 package org.optimizationBenchmarking.evaluator.attributes.functions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.optimizationBenchmarking.evaluator.data.spec.IDataElement;
 import org.optimizationBenchmarking.utils.ICloneable;
 import org.optimizationBenchmarking.utils.comparison.Compare;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.math.BasicNumber;
+import org.optimizationBenchmarking.utils.math.functions.MathematicalFunction;
 import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Add;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Div;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Mul;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.SaturatingAdd;
 import org.optimizationBenchmarking.utils.math.functions.basic.Identity;
+import org.optimizationBenchmarking.utils.math.functions.power.Exp;
+import org.optimizationBenchmarking.utils.math.functions.power.Ld;
+import org.optimizationBenchmarking.utils.math.functions.power.Lg;
+import org.optimizationBenchmarking.utils.math.functions.power.Ln;
+import org.optimizationBenchmarking.utils.math.functions.power.Sqrt;
 import org.optimizationBenchmarking.utils.math.text.DefaultParameterRenderer;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
@@ -16,12 +33,40 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  */
 public class Transformation {
 
+  /**
+   * the maximum number of bound functions kept per transformation: the
+   * parser keeps its transformations as long as the experiment set, so
+   * the cache is cleared once it reaches this size
+   */
+  private static final int MAX_BOUND = 256;
+
+  /** a function or value not known to be monotone or constant */
+  private static final int UNKNOWN = 0;
+  /** a function known to be monotonously increasing */
+  private static final int INCREASING = 1;
+  /** a constant whose value is known */
+  private static final int CONSTANT = 2;
+  /** a constant depending on a data element which is not yet bound */
+  private static final int UNBOUND = 3;
+
   /** the function to be applied to the input data */
   final UnaryFunction m_func;
 
   /** the internal hash code */
   int m_hashCode;
 
+  /**
+   * the data-based constants of {@link #m_func}, or {@code null} if they
+   * have not yet been determined
+   */
+  private volatile _DataBasedConstant[] m_constants;
+
+  /**
+   * the functions bound to data elements, indexed by the values of the
+   * data-based constants, holding at most {@link #MAX_BOUND} entries
+   */
+  private final ConcurrentHashMap<List<Object>, UnaryFunction> m_bound;
+
   /**
    * Create the data transformation
    *
@@ -37,6 +82,7 @@ public class Transformation {
     }
 
     this.m_func = function;
+    this.m_bound = new ConcurrentHashMap<>();
   }
 
   /**
@@ -57,6 +103,234 @@ public class Transformation {
     return (this.m_func instanceof Identity);
   }
 
+  /**
+   * Check whether this function is monotone, i.e., whether it preserves
+   * (or reverses) the order of its inputs. If this method returns
+   * {@code true}, then applying the transformation to a sorted sequence of
+   * values yields a sequence which is sorted as well, possibly in reverse
+   * order. Values for which the function is undefined (i.e., where it
+   * returns {@code NaN}) can only occur at one end of such a sequence. A
+   * return value of {@code false} does not necessarily mean that the
+   * function is not monotone, it may just not be recognizable as such.
+   * Multiplications and divisions by data-based constants such as
+   * instance features can only be recognized once the constants are
+   * known, so {@link #isMonotoneFunction(UnaryFunction)} should be
+   * applied to the function returned by {@link #use(IDataElement)}
+   * where possible.
+   *
+   * @return {@code true} if this transformation is known to be monotone,
+   *         {@code false} otherwise
+   */
+  public final boolean isMonotoneTransformation() {
+    return Transformation.isMonotoneFunction(this.m_func);
+  }
+
+  /**
+   * Check whether a transformation function is monotone, in the sense of
+   * {@link #isMonotoneTransformation()}. Recognized are the identity, the
+   * logarithms, the exponential function, and the square root, as well as
+   * compositions of these. Additions of constants and multiplications and
+   * divisions by positive constants are recognized, too, as long as the
+   * constants do not depend on a data element to which the function has
+   * not yet been bound. This includes expressions such as
+   * {@code log(FEs)/log(n)} for a bound instance feature {@code n>1}.
+   *
+   * @param function
+   *          the function
+   * @return {@code true} if the function is known to be monotone,
+   *         {@code false} otherwise
+   */
+  public static final boolean isMonotoneFunction(
+      final UnaryFunction function) {
+    switch (Transformation.__classify(function)) {
+      case INCREASING:
+      case CONSTANT:
+      case UNBOUND: {
+        return true;
+      }
+      default: {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Classify a part of a transformation function. Compound functions are
+   * visited via their {@link Iterable} interface, which provides the
+   * function applied as well as its arguments.
+   *
+   * @param object
+   *          the part of the function
+   * @return {@link #UNKNOWN}, {@link #INCREASING}, {@link #CONSTANT}, or
+   *         {@link #UNBOUND}
+   */
+  @SuppressWarnings("rawtypes")
+  private static final int __classify(final Object object) {
+    final ArrayList<Object> parts;
+    MathematicalFunction applied;
+    int first, second;
+
+    if (object instanceof Number) {
+      if ((object instanceof BasicNumber) && (((BasicNumber) object)
+          .getState() == BasicNumber.STATE_EMPTY)) {
+        return Transformation.UNBOUND;
+      }
+      return Transformation.CONSTANT;
+    }
+
+    if ((object instanceof Identity) || //
+        (object instanceof Ln) || //
+        (object instanceof Lg) || //
+        (object instanceof Ld) || //
+        (object instanceof Exp) || //
+        (object instanceof Sqrt)) {
+      return Transformation.INCREASING;
+    }
+
+    if (!(object instanceof Iterable)) {
+      return Transformation.UNKNOWN;
+    }
+
+    // split the compound into the applied function of higher arity, if
+    // any, and the arguments in their original order
+    parts = new ArrayList<>();
+    applied = null;
+    for (final Object part : ((Iterable) object)) {
+      if ((part instanceof MathematicalFunction)
+          && (!(part instanceof UnaryFunction))) {
+        if (applied != null) {
+          return Transformation.UNKNOWN;
+        }
+        applied = ((MathematicalFunction) part);
+      } else {
+        parts.add(part);
+      }
+    }
+
+    if (parts.size() == 1) {
+      // a constant wrapped into a function
+      first = Transformation.__classify(parts.get(0));
+      if ((applied == null) && (first != Transformation.INCREASING)) {
+        return first;
+      }
+      return Transformation.UNKNOWN;
+    }
+
+    if (parts.size() != 2) {
+      return Transformation.UNKNOWN;
+    }
+
+    first = Transformation.__classify(parts.get(0));
+    second = Transformation.__classify(parts.get(1));
+    if ((first == Transformation.UNKNOWN)
+        || (second == Transformation.UNKNOWN)) {
+      return Transformation.UNKNOWN;
+    }
+
+    if (applied == null) {
+      // a unary function applied to an argument: constants are never
+      // applied, so applying anything to a constant yields a constant
+      if ((first == Transformation.INCREASING)
+          && (second == Transformation.INCREASING)) {
+        return Transformation.INCREASING;
+      }
+      return Transformation.__constant(first, second);
+    }
+
+    if ((first != Transformation.INCREASING)
+        && (second != Transformation.INCREASING)) {
+      return Transformation.__constant(first, second);
+    }
+
+    if ((applied instanceof Add) || (applied instanceof SaturatingAdd)) {
+      if (Transformation.__isIncreasingAndConstant(first, second,
+          parts.get(1), false)
+          || Transformation.__isIncreasingAndConstant(second, first,
+              parts.get(0), false)) {
+        return Transformation.INCREASING;
+      }
+      return Transformation.UNKNOWN;
+    }
+
+    if (applied instanceof Mul) {
+      if (Transformation.__isIncreasingAndConstant(first, second,
+          parts.get(1), true)
+          || Transformation.__isIncreasingAndConstant(second, first,
+              parts.get(0), true)) {
+        return Transformation.INCREASING;
+      }
+      return Transformation.UNKNOWN;
+    }
+
+    if (applied instanceof Div) {
+      if (Transformation.__isIncreasingAndConstant(first, second,
+          parts.get(1), true)) {
+        return Transformation.INCREASING;
+      }
+    }
+
+    return Transformation.UNKNOWN;
+  }
+
+  /**
+   * Get the classification of a function of two constants
+   *
+   * @param first
+   *          the classification of the first constant
+   * @param second
+   *          the classification of the second constant
+   * @return {@link #CONSTANT} or {@link #UNBOUND}
+   */
+  private static final int __constant(final int first, final int second) {
+    if ((first == Transformation.UNBOUND)
+        || (second == Transformation.UNBOUND)) {
+      return Transformation.UNBOUND;
+    }
+    return Transformation.CONSTANT;
+  }
+
+  /**
+   * Check whether the first of two arguments is increasing and the second
+   * one is a known, finite constant
+   *
+   * @param first
+   *          the classification of the first argument
+   * @param second
+   *          the classification of the second argument
+   * @param secondPart
+   *          the second argument
+   * @param positive
+   *          must the constant be positive?
+   * @return {@code true} if the first argument is increasing and the
+   *         second one is a suitable constant, {@code false} otherwise
+   */
+  private static final boolean __isIncreasingAndConstant(final int first,
+      final int second, final Object secondPart, final boolean positive) {
+    final double value;
+
+    if ((first != Transformation.INCREASING)
+        || (second != Transformation.CONSTANT)) {
+      return false;
+    }
+
+    if (secondPart instanceof Number) {
+      value = ((Number) secondPart).doubleValue();
+    } else {
+      if (secondPart instanceof UnaryFunction) {
+        // the argument is a constant, so any input will do
+        value = ((UnaryFunction) secondPart).computeAsDouble(0d);
+      } else {
+        return false;
+      }
+    }
+
+    if ((value <= Double.NEGATIVE_INFINITY)
+        || (value >= Double.POSITIVE_INFINITY) || (value != value)) {
+      return false;
+    }
+    return ((!positive) || (value > 0d));
+  }
+
   /**
    * Check whether this function is accurate in {@code long} arithmetic:
    * The result can always be represented as a {@code long} without loss of
@@ -71,21 +345,119 @@ public class Transformation {
   }
 
   /**
-   * Provide the data transformation function based on a given data element
+   * Provide the data transformation function based on a given data element.
+   * Data elements which lead to the same values of all data-based constants
+   * (such as instance features, experiment parameters, or dimension
+   * bounds) usually share the same bound function instance, which must
+   * not be modified. Only a limited number of bound functions is cached,
+   * so for data with many different constant values, new instances may
+   * be created.
    *
    * @param element
    *          the data element
    * @return the transformation function
    */
   public final UnaryFunction use(final IDataElement element) {
-    UnaryFunction useFunction;
+    final List<Object> key;
+    UnaryFunction useFunction, other;
+
+    key = this.getConstantValues(element);
+    if (key.isEmpty()) {
+      // nothing depends on the data, so the function can be shared
+      return this.m_func;
+    }
+
+    useFunction = this.m_bound.get(key);
+    if (useFunction != null) {
+      return useFunction;
+    }
 
     useFunction = ((this.m_func instanceof ICloneable)
         ? ((UnaryFunction) (((ICloneable) (this.m_func)).clone()))
         : this.m_func);
 
     Transformation.__use(useFunction, element);
-    return useFunction;
+
+    if (this.m_bound.size() >= Transformation.MAX_BOUND) {
+      // the bound functions are immutable, so whoever still holds one
+      // can keep using it
+      this.m_bound.clear();
+    }
+    other = this.m_bound.putIfAbsent(key, useFunction);
+    return ((other != null) ? other : useFunction);
+  }
+
+  /**
+   * Get the values which the data-based constants of this transformation,
+   * such as instance features, experiment parameters, or dimension
+   * bounds, take on for a given data element. Two data elements with the
+   * same values are transformed in exactly the same way.
+   *
+   * @param element
+   *          the data element
+   * @return the values, or an empty list if the transformation does not
+   *         depend on the data
+   */
+  public final List<Object> getConstantValues(final IDataElement element) {
+    final _DataBasedConstant[] constants;
+    final Object[] values;
+    int index;
+
+    constants = this.__getConstants();
+    if (constants.length <= 0) {
+      return Collections.emptyList();
+    }
+
+    if (element == null) {
+      throw new IllegalArgumentException("Data element cannot be null."); //$NON-NLS-1$
+    }
+
+    values = new Object[constants.length];
+    for (index = values.length; (--index) >= 0;) {
+      values[index] = constants[index]._getValue(element);
+    }
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Get the data-based constants of the transformation function, in the
+   * order in which they are visited by {@link #__use(Object, IDataElement)}
+   *
+   * @return the data-based constants
+   */
+  private final _DataBasedConstant[] __getConstants() {
+    final ArrayList<_DataBasedConstant> list;
+    _DataBasedConstant[] constants;
+
+    constants = this.m_constants;
+    if (constants == null) {
+      list = new ArrayList<>();
+      Transformation.__collect(this.m_func, list);
+      this.m_constants = constants = list
+          .toArray(new _DataBasedConstant[list.size()]);
+    }
+    return constants;
+  }
+
+  /**
+   * recursively collect all the data-based constants nested in a function
+   *
+   * @param object
+   *          the object to inspect
+   * @param list
+   *          the destination list
+   */
+  @SuppressWarnings("rawtypes")
+  private static final void __collect(final Object object,
+      final ArrayList<_DataBasedConstant> list) {
+    if (object instanceof _DataBasedConstant) {
+      list.add((_DataBasedConstant) object);
+    }
+    if (object instanceof Iterable) {
+      for (final Object child : ((Iterable) object)) {
+        Transformation.__collect(child, list);
+      }
+    }
   }
 
   /**
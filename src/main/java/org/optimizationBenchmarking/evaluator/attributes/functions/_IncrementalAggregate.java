@@ -0,0 +1,84 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Maximum;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Minimum;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+
+/**
+ * An aggregate over a fixed number of slots, each of which holds one
+ * value. When merging step functions, only the slots of the functions
+ * which change at a given {@code x} coordinate are updated. Sub-classes
+ * may exploit this to update the aggregate faster than by re-computing it
+ * over all slots.
+ */
+abstract class _IncrementalAggregate {
+
+  /** the current values of the slots */
+  final double[] m_values;
+
+  /**
+   * create the aggregate
+   *
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   */
+  _IncrementalAggregate(final int size, final double initial) {
+    super();
+    this.m_values = new double[size];
+    Arrays.fill(this.m_values, initial);
+  }
+
+  /**
+   * Set the value of a given slot
+   *
+   * @param index
+   *          the slot index
+   * @param value
+   *          the new value
+   */
+  abstract void _set(final int index, final double value);
+
+  /**
+   * Get the current value of the aggregate over all slots
+   *
+   * @return the current value of the aggregate
+   */
+  abstract double _get();
+
+  /**
+   * Create an incremental aggregate for the given statistical parameter
+   *
+   * @param parameter
+   *          the parameter
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   * @return the aggregate
+   */
+  static final _IncrementalAggregate _create(
+      final StatisticalParameter parameter, final int size,
+      final double initial) {
+    if (parameter instanceof ArithmeticMean) {
+      return new _IncrementalMean(size, initial);
+    }
+    if (parameter instanceof Median) {
+      return _IncrementalOrderStatistic._median(size, initial);
+    }
+    if (size > 0) {
+      if (parameter instanceof Minimum) {
+        return new _IncrementalOrderStatistic(size, initial, 1, false);
+      }
+      if (parameter instanceof Maximum) {
+        return new _IncrementalOrderStatistic(size, initial, size, false);
+      }
+    }
+    return new _RecomputedAggregate(parameter, size, initial);
+  }
+}
@@ -0,0 +1,117 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions;
+
+/**
+ * An incremental arithmetic mean. The sum of the finite values is updated
+ * with Kahan summation whenever a slot changes, while infinite and
+ * {@code NaN} values are only counted. In order to prevent the rounding
+ * errors from accumulating, the sum is re-computed from scratch once as
+ * many updates as there are slots have been made, which keeps the cost of
+ * an update at amortized {@code O(1)}.
+ */
+final class _IncrementalMean extends _IncrementalAggregate {
+
+  /** the sum of the finite values */
+  private double m_sum;
+  /** the compensation term of the sum */
+  private double m_compensation;
+  /** the number of slots with value {@code NaN} */
+  private int m_nan;
+  /** the number of slots with positive infinite values */
+  private int m_positiveInfinity;
+  /** the number of slots with negative infinite values */
+  private int m_negativeInfinity;
+  /** the number of updates since the last re-computation */
+  private int m_updates;
+
+  /**
+   * create the aggregate
+   *
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   */
+  _IncrementalMean(final int size, final double initial) {
+    super(size, initial);
+    this.__recompute();
+  }
+
+  /** re-compute the sum from scratch */
+  private final void __recompute() {
+    this.m_sum = 0d;
+    this.m_compensation = 0d;
+    this.m_nan = 0;
+    this.m_positiveInfinity = 0;
+    this.m_negativeInfinity = 0;
+    this.m_updates = 0;
+    for (final double value : this.m_values) {
+      this.__add(value, 1);
+    }
+  }
+
+  /**
+   * add or remove a value
+   *
+   * @param value
+   *          the value
+   * @param sign
+   *          {@code 1} for adding, {@code -1} for removing the value
+   */
+  private final void __add(final double value, final int sign) {
+    final double y, t;
+
+    if (value != value) {
+      this.m_nan += sign;
+      return;
+    }
+    if (value >= Double.POSITIVE_INFINITY) {
+      this.m_positiveInfinity += sign;
+      return;
+    }
+    if (value <= Double.NEGATIVE_INFINITY) {
+      this.m_negativeInfinity += sign;
+      return;
+    }
+
+    y = ((sign * value) - this.m_compensation);
+    t = (this.m_sum + y);
+    this.m_compensation = ((t - this.m_sum) - y);
+    this.m_sum = t;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _set(final int index, final double value) {
+    final double old;
+
+    old = this.m_values[index];
+    if (Double.doubleToLongBits(old) == Double.doubleToLongBits(value)) {
+      return;
+    }
+    this.m_values[index] = value;
+
+    if ((++this.m_updates) >= this.m_values.length) {
+      this.__recompute();
+      return;
+    }
+
+    this.__add(old, -1);
+    this.__add(value, 1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final double _get() {
+    if (this.m_nan > 0) {
+      return Double.NaN;
+    }
+    if (this.m_positiveInfinity > 0) {
+      return ((this.m_negativeInfinity > 0) ? Double.NaN
+          : Double.POSITIVE_INFINITY);
+    }
+    if (this.m_negativeInfinity > 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    return (this.m_sum / this.m_values.length);
+  }
+}
@@ -0,0 +1,262 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.ScalarAggregate;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+
+/**
+ * An incremental order statistic, i.e., a median, minimum, or maximum.
+ * The slots are split into two indexed heaps: a max-heap holding the
+ * {@code r} smallest values and a min-heap holding the others. Since the
+ * number of slots never changes, neither do the sizes of the heaps. If a
+ * slot changes, it is moved to its new place inside its heap and at most
+ * one pair of elements needs to be exchanged between the heaps. An update
+ * therefore costs {@code O(log k)} and the order statistic itself can be
+ * read from the tops of the heaps in {@code O(1)}.
+ * <p>
+ * Values are ordered as by {@link Double#compare(double, double)}, i.e.,
+ * {@code NaN} is considered larger than all other values.
+ * </p>
+ */
+final class _IncrementalOrderStatistic extends _IncrementalAggregate {
+
+  /** the max-heap with the {@code r} smallest values */
+  private final int[] m_lower;
+  /** the min-heap with the remaining values */
+  private final int[] m_upper;
+  /** the position of each slot in its heap */
+  private final int[] m_positions;
+  /** is a given slot in the {@link #m_lower lower} heap? */
+  private final boolean[] m_isLower;
+  /**
+   * should the result be the midpoint of the tops of both heaps
+   * ({@code true}) or only the top of the lower heap ({@code false})?
+   */
+  private final boolean m_average;
+
+  /**
+   * create the aggregate
+   *
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   * @param rank
+   *          the number {@code r} of slots in the lower heap, must be
+   *          between {@code 1} and {@code size} unless {@code size} is
+   *          {@code 0}
+   * @param average
+   *          should the result be the midpoint of the {@code r}-th and
+   *          {@code (r+1)}-th smallest value?
+   */
+  _IncrementalOrderStatistic(final int size, final double initial,
+      final int rank, final boolean average) {
+    super(size, initial);
+
+    int index;
+
+    this.m_lower = new int[rank];
+    this.m_upper = new int[size - rank];
+    this.m_positions = new int[size];
+    this.m_isLower = new boolean[size];
+    this.m_average = (average && (rank < size));
+
+    // all values are the same, so any distribution forms valid heaps
+    for (index = 0; index < rank; index++) {
+      this.m_lower[index] = index;
+      this.m_positions[index] = index;
+      this.m_isLower[index] = true;
+    }
+    for (; index < size; index++) {
+      this.m_upper[index - rank] = index;
+      this.m_positions[index] = (index - rank);
+    }
+  }
+
+  /**
+   * Create an incremental median
+   *
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   * @return the median
+   */
+  static final _IncrementalOrderStatistic _median(final int size,
+      final double initial) {
+    return new _IncrementalOrderStatistic(size, initial, //
+        ((size + 1) >>> 1), ((size & 1) == 0));
+  }
+
+  /**
+   * Compare the values of two slots inside a heap
+   *
+   * @param a
+   *          the first slot
+   * @param b
+   *          the second slot
+   * @param isLower
+   *          are the slots in the lower (max) heap?
+   * @return {@code true} if {@code a} must be closer to the top of the
+   *         heap than {@code b}
+   */
+  private final boolean __before(final int a, final int b,
+      final boolean isLower) {
+    final int result;
+
+    result = Double.compare(this.m_values[a], this.m_values[b]);
+    return (isLower ? (result > 0) : (result < 0));
+  }
+
+  /**
+   * move a slot up in its heap
+   *
+   * @param heap
+   *          the heap
+   * @param position
+   *          the position of the slot
+   * @param isLower
+   *          is this the lower (max) heap?
+   * @return the new position of the slot
+   */
+  private final int __siftUp(final int[] heap, final int position,
+      final boolean isLower) {
+    final int slot;
+    int current, parent;
+
+    slot = heap[position];
+    current = position;
+    siftUp: while (current > 0) {
+      parent = ((current - 1) >>> 1);
+      if (!(this.__before(slot, heap[parent], isLower))) {
+        break siftUp;
+      }
+      heap[current] = heap[parent];
+      this.m_positions[heap[current]] = current;
+      current = parent;
+    }
+    heap[current] = slot;
+    this.m_positions[slot] = current;
+    return current;
+  }
+
+  /**
+   * move a slot down in its heap
+   *
+   * @param heap
+   *          the heap
+   * @param position
+   *          the position of the slot
+   * @param isLower
+   *          is this the lower (max) heap?
+   */
+  private final void __siftDown(final int[] heap, final int position,
+      final boolean isLower) {
+    final int slot;
+    int current, child;
+
+    slot = heap[position];
+    current = position;
+    siftDown: for (;;) {
+      child = ((current << 1) + 1);
+      if (child >= heap.length) {
+        break siftDown;
+      }
+      if (((child + 1) < heap.length)
+          && this.__before(heap[child + 1], heap[child], isLower)) {
+        child++;
+      }
+      if (!(this.__before(heap[child], slot, isLower))) {
+        break siftDown;
+      }
+      heap[current] = heap[child];
+      this.m_positions[heap[current]] = current;
+      current = child;
+    }
+    heap[current] = slot;
+    this.m_positions[slot] = current;
+  }
+
+  /**
+   * restore the heap property after the value of a slot has changed
+   *
+   * @param heap
+   *          the heap
+   * @param position
+   *          the position of the slot
+   * @param isLower
+   *          is this the lower (max) heap?
+   */
+  private final void __fix(final int[] heap, final int position,
+      final boolean isLower) {
+    if (this.__siftUp(heap, position, isLower) == position) {
+      this.__siftDown(heap, position, isLower);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _set(final int index, final double value) {
+    final int[] lower, upper;
+    final int lowerTop, upperTop;
+
+    if (Double.doubleToLongBits(this.m_values[index]) == Double
+        .doubleToLongBits(value)) {
+      return;
+    }
+    this.m_values[index] = value;
+
+    lower = this.m_lower;
+    upper = this.m_upper;
+    if (this.m_isLower[index]) {
+      this.__fix(lower, this.m_positions[index], true);
+    } else {
+      this.__fix(upper, this.m_positions[index], false);
+    }
+
+    if ((lower.length <= 0) || (upper.length <= 0)) {
+      return;
+    }
+
+    // at most one pair of slots is on the wrong side
+    lowerTop = lower[0];
+    upperTop = upper[0];
+    if (Double.compare(this.m_values[lowerTop],
+        this.m_values[upperTop]) > 0) {
+      lower[0] = upperTop;
+      this.m_isLower[upperTop] = true;
+      upper[0] = lowerTop;
+      this.m_isLower[lowerTop] = false;
+      this.__siftDown(lower, 0, true);
+      this.__siftDown(upper, 0, false);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final double _get() {
+    final double a, b;
+    final ScalarAggregate midpoint;
+
+    if (this.m_lower.length <= 0) {
+      return Double.NaN;
+    }
+
+    a = this.m_values[this.m_lower[0]];
+    if (!(this.m_average)) {
+      return a;
+    }
+
+    b = this.m_values[this.m_upper[0]];
+    if (Double.compare(a, b) == 0) {
+      return a;
+    }
+
+    // The midpoint is computed by the median itself, so that it is the
+    // same as over all values, also for infinite and NaN values and with
+    // the same rounding.
+    midpoint = Median.INSTANCE.createSampleAggregate();
+    midpoint.append(a);
+    midpoint.append(b);
+    return midpoint.toNumber().doubleValue();
+  }
+}
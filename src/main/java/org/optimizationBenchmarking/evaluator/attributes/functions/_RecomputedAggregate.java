@@ -0,0 +1,64 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.ScalarAggregate;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+
+/**
+ * An aggregate for statistical parameters which cannot be updated
+ * incrementally: it is re-computed over all slots, but only if a slot has
+ * changed since the last request.
+ */
+final class _RecomputedAggregate extends _IncrementalAggregate {
+
+  /** the statistical parameter */
+  private final StatisticalParameter m_parameter;
+
+  /** the current value */
+  private double m_current;
+
+  /** has any slot changed since the last computation? */
+  private boolean m_changed;
+
+  /**
+   * create the aggregate
+   *
+   * @param parameter
+   *          the statistical parameter
+   * @param size
+   *          the number of slots
+   * @param initial
+   *          the initial value of all slots
+   */
+  _RecomputedAggregate(final StatisticalParameter parameter,
+      final int size, final double initial) {
+    super(size, initial);
+    this.m_parameter = parameter;
+    this.m_changed = true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _set(final int index, final double value) {
+    if (Double.doubleToLongBits(this.m_values[index]) != Double
+        .doubleToLongBits(value)) {
+      this.m_values[index] = value;
+      this.m_changed = true;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final double _get() {
+    final ScalarAggregate aggregate;
+
+    if (this.m_changed) {
+      aggregate = this.m_parameter.createSampleAggregate();
+      for (final double value : this.m_values) {
+        aggregate.append(value);
+      }
+      this.m_current = aggregate.toNumber().doubleValue();
+      this.m_changed = false;
+    }
+    return this.m_current;
+  }
+}
@@ -1,5 +1,8 @@
 package org.optimizationBenchmarking.evaluator.attributes.functions;
 
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
 import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
 import org.optimizationBenchmarking.evaluator.data.spec.IFeature;
@@ -14,7 +17,12 @@ import org.optimizationBenchmarking.utils.parsers.Parser;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 
 /**
- * A parser which can translate a string to a data transformation.
+ * A parser which can translate a string to a data transformation. The
+ * parser is thread-safe without locking: The state of each parsing
+ * operation is kept in a separate {@link _ParseState} object, the names
+ * of features, parameters, and dimensions are resolved via an immutable
+ * index built once, and the parsed transformations, which are immutable,
+ * are memoized by their string representation.
  *
  * @param <TT>
  *          the transformation type
@@ -25,20 +33,14 @@ abstract class _TransformationParser<TT extends Transformation>
   /** the serial version uid */
   private static final long serialVersionUID = 1L;
 
-  /** the internal function parser */
-  private final CompoundFunctionParser<UnaryFunction> m_functionParser;
-
-  /** the property resolver */
-  private final __PropertyResolver m_resolver;
-
   /** the experiment set */
   final IExperimentSet m_experimentSet;
 
-  /**
-   * the unary function for the parameter: must be reset to {@code null} by
-   * {@link #_createTransformation(UnaryFunction)}
-   */
-  transient UnaryFunction m_unary;
+  /** the name index, or {@code null} if not yet built */
+  private transient volatile __NameIndex m_index;
+
+  /** the transformations parsed so far, or {@code null} if none yet */
+  private transient volatile ConcurrentHashMap<String, TT> m_parsed;
 
   /**
    * create the transformation parser
@@ -54,19 +56,94 @@ abstract class _TransformationParser<TT extends Transformation>
           "Experiment set cannot be null."); //$NON-NLS-1$
     }
     this.m_experimentSet = experimentSet;
+  }
 
-    this.m_resolver = new __PropertyResolver();
-    this.m_functionParser = new CompoundFunctionParser<>(
-        UnaryFunctionBuilder.getInstance(), this.m_resolver);
+  /**
+   * Get the name index
+   *
+   * @return the name index
+   */
+  private final __NameIndex __getIndex() {
+    __NameIndex index;
+
+    index = this.m_index;
+    if (index == null) {
+      this.m_index = index = new __NameIndex(this.m_experimentSet);
+    }
+    return index;
+  }
+
+  /**
+   * Get the map of parsed transformations
+   *
+   * @return the map of parsed transformations
+   */
+  private final ConcurrentHashMap<String, TT> __getParsed() {
+    ConcurrentHashMap<String, TT> parsed;
+
+    parsed = this.m_parsed;
+    if (parsed == null) {
+      synchronized (this) {
+        parsed = this.m_parsed;
+        if (parsed == null) {
+          this.m_parsed = parsed = new ConcurrentHashMap<>();
+        }
+      }
+    }
+    return parsed;
+  }
+
+  /**
+   * Parse a string without looking it up in the memo
+   *
+   * @param string
+   *          the string
+   * @return the transformation
+   */
+  private final TT __parse(final String string) {
+    final _ParseState state;
+    final UnaryFunction function;
+
+    state = new _ParseState();
+    function = new CompoundFunctionParser<>(
+        UnaryFunctionBuilder.getInstance(),
+        new __PropertyResolver(this.__getIndex(), state))
+            .parseString(string);
+    return this._createTransformation(function, state);
+  }
+
+  /**
+   * Find a dimension by its name
+   *
+   * @param name
+   *          the name
+   * @return the dimension, or {@code null} if none was found
+   */
+  final IDimension _findDimension(final String name) {
+    return __NameIndex._find(this.__getIndex().m_dimensions, name,
+        TextUtils.prepare(name));
   }
 
   /** {@inheritDoc} */
   @Override
-  public synchronized final TT parseString(final String string) {
-    final UnaryFunction function;
+  public final TT parseString(final String string) {
+    final ConcurrentHashMap<String, TT> parsed;
+    TT result, other;
 
-    function = this.m_functionParser.parseString(string);
-    return this._createTransformation(function);
+    if (string == null) {
+      return this.__parse(string);
+    }
+
+    parsed = this.__getParsed();
+    result = parsed.get(string);
+    if (result == null) {
+      result = this.__parse(string);
+      other = parsed.putIfAbsent(string, result);
+      if (other != null) {
+        return other;
+      }
+    }
+    return result;
   }
 
   /**
@@ -74,9 +151,12 @@ abstract class _TransformationParser<TT extends Transformation>
    *
    * @param function
    *          the parsed function
+   * @param state
+   *          the state of the parsing operation
    * @return the created transformation
    */
-  abstract TT _createTransformation(final UnaryFunction function);
+  abstract TT _createTransformation(final UnaryFunction function,
+      final _ParseState state);
 
   /**
    * Resolve an otherwise unassigned name
@@ -85,26 +165,156 @@ abstract class _TransformationParser<TT extends Transformation>
    *          the name
    * @param builder
    *          the function builder
+   * @param state
+   *          the state of the parsing operation
    * @return the function corresponding to the name
    */
   UnaryFunction _resolveUnknownName(final String name,
-      final FunctionBuilder<UnaryFunction> builder) {
+      final FunctionBuilder<UnaryFunction> builder,
+      final _ParseState state) {
     return null;
   }
 
+  /** the state of a single parsing operation */
+  static final class _ParseState {
+
+    /** the unary function for the parameter */
+    UnaryFunction m_unary;
+
+    /** the source dimension, if any */
+    IDimension m_dimension;
+
+    /** create */
+    _ParseState() {
+      super();
+    }
+  }
+
+  /**
+   * An immutable index of the names of the features, parameters, and
+   * dimensions of an experiment set. If several elements have the same
+   * name, the first one is used.
+   */
+  private static final class __NameIndex {
+
+    /** the features */
+    final HashMap<String, IFeature> m_features;
+    /** the parameters */
+    final HashMap<String, IParameter> m_parameters;
+    /** the dimensions */
+    final HashMap<String, IDimension> m_dimensions;
+
+    /**
+     * create the index
+     *
+     * @param experimentSet
+     *          the experiment set
+     */
+    __NameIndex(final IExperimentSet experimentSet) {
+      super();
+
+      this.m_features = new HashMap<>();
+      for (final IFeature feature : experimentSet.getFeatures()
+          .getData()) {
+        __NameIndex.__put(this.m_features, feature.getName(), feature);
+      }
+
+      this.m_parameters = new HashMap<>();
+      for (final IParameter parameter : experimentSet.getParameters()
+          .getData()) {
+        __NameIndex.__put(this.m_parameters, parameter.getName(),
+            parameter);
+      }
+
+      this.m_dimensions = new HashMap<>();
+      for (final IDimension dimension : experimentSet.getDimensions()
+          .getData()) {
+        __NameIndex.__put(this.m_dimensions, dimension.getName(),
+            dimension);
+      }
+    }
+
+    /**
+     * Store an element both under its name and its prepared name
+     *
+     * @param map
+     *          the map
+     * @param name
+     *          the name
+     * @param element
+     *          the element
+     * @param <T>
+     *          the element type
+     */
+    private static final <T> void __put(final HashMap<String, T> map,
+        final String name, final T element) {
+      final String prepared;
+
+      if (name == null) {
+        return;
+      }
+      if (!(map.containsKey(name))) {
+        map.put(name, element);
+      }
+      prepared = TextUtils.prepare(name);
+      if ((prepared != null) && (!(map.containsKey(prepared)))) {
+        map.put(prepared, element);
+      }
+    }
+
+    /**
+     * Find an element by name
+     *
+     * @param map
+     *          the map
+     * @param name
+     *          the raw name
+     * @param processed
+     *          the prepared name
+     * @param <T>
+     *          the element type
+     * @return the element, or {@code null} if none was found
+     */
+    static final <T> T _find(final HashMap<String, T> map,
+        final String name, final String processed) {
+      final T result;
+
+      result = map.get(name);
+      if (result != null) {
+        return result;
+      }
+      return map.get(processed);
+    }
+  }
+
   /** the internal entity resolver */
   private final class __PropertyResolver extends AbstractNameResolver {
 
-    /** create the internal property resolver */
-    __PropertyResolver() {
+    /** the name index */
+    private final __NameIndex m_index;
+
+    /** the parse state */
+    private final _ParseState m_state;
+
+    /**
+     * create the internal property resolver
+     *
+     * @param index
+     *          the name index
+     * @param state
+     *          the parse state
+     */
+    __PropertyResolver(final __NameIndex index, final _ParseState state) {
       super();
+      this.m_index = index;
+      this.m_state = state;
     }
 
     /** {@inheritDoc} */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public synchronized final MathematicalFunction resolve(
-        final String name, final FunctionBuilder<?> builder) {
+    public final MathematicalFunction resolve(final String name,
+        final FunctionBuilder<?> builder) {
       final String processed, lower, use;
       _DataBasedConstant constant;
       final IDimension dim;
@@ -119,13 +329,13 @@ abstract class _TransformationParser<TT extends Transformation>
       if (processed != null) {
         constant = null;
 
-        feature = _TransformationParser.this.m_experimentSet.getFeatures()
-            .find(name);
+        feature = __NameIndex._find(this.m_index.m_features, name,
+            processed);
         if (feature != null) {
           constant = new _FeatureConstant(feature);
         } else {
-          parameter = _TransformationParser.this.m_experimentSet
-              .getParameters().find(name);
+          parameter = __NameIndex._find(this.m_index.m_parameters, name,
+              processed);
           if (parameter != null) {
             constant = new _ParameterConstant(parameter);
           } else {
@@ -146,8 +356,8 @@ abstract class _TransformationParser<TT extends Transformation>
                 }
               }
 
-              dim = _TransformationParser.this.m_experimentSet
-                  .getDimensions().find(use);
+              dim = __NameIndex._find(this.m_index.m_dimensions, use,
+                  use);
               if (dim != null) {
                 constant = new _BoundConstant(dim, upper);
               }
@@ -165,7 +375,7 @@ abstract class _TransformationParser<TT extends Transformation>
         }
 
         unknown = _TransformationParser.this._resolveUnknownName(name,
-            ((FunctionBuilder) builder));
+            ((FunctionBuilder) builder), this.m_state);
         if (unknown != null) {
           return unknown;
         }
@@ -11,8 +11,10 @@ import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTran
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformationParser;
 import org.optimizationBenchmarking.evaluator.attributes.functions.FunctionAttribute;
 import org.optimizationBenchmarking.evaluator.attributes.functions.NamedParameterTransformationParser;
+import org.optimizationBenchmarking.evaluator.attributes.functions.StepFunctionAggregation;
 import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
 import org.optimizationBenchmarking.evaluator.data.spec.IElementSet;
 import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
 import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
@@ -261,13 +263,16 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     i = runs.size();
     matrices = new IMatrix[i];
 
+    // The runs are immutable, so we can iterate over views of their
+    // columns instead of copies. Transformations are applied lazily
+    // whenever a value is read during the iteration.
     for (; (--i) >= 0;) {
       current = runs.get(i).selectColumns(this.m_xIndex, this.m_yIndex);
       if (doTransform) {
         current = new ColumnTransformedMatrix(current, //
-            xFunction, yInputFunction).copy();
+            xFunction, yInputFunction);
       }
-      matrices[i] = current.copy();
+      matrices[i] = current;
     }
 
     yOut = this.getYAxisOutputTransformation();
@@ -309,30 +314,53 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
    */
   private final IMatrix __secondaryAggregate(final IMatrix[] matrices,
       final Logger logger) {
+    final IDimension xDim, yDim;
+    final double worst, nanReplacement;
     CallableMatrixIteration2DBuilder<IMatrix> builder;
 
+    xDim = this.getXAxisTransformation().getDimension();
+    yDim = this.getYAxisInputTransformation().getDimension();
+
+    // Before its first point, each matrix has the worst possible value.
+    // NaN values are replaced for dispersion and representative value
+    // statistics only, otherwise they are skipped.
+    worst = (yDim.getDirection().isIncreasing() ? Double.NEGATIVE_INFINITY
+        : Double.POSITIVE_INFINITY);
+    if (this.m_second.isDispersionStatistic()) {
+      nanReplacement = Double.POSITIVE_INFINITY;
+    } else {
+      if (this.m_second.isRepresentativeValueStatistic()) {
+        nanReplacement = worst;
+      } else {
+        nanReplacement = Double.NaN;
+      }
+    }
+
+    if (StepFunctionAggregation.isEnabled()
+        && (!(yDim.getDimensionType().isTimeMeasure()))
+        && (nanReplacement == nanReplacement)) {
+      // If y is not a time measure, each matrix is a step function which
+      // keeps its previous value between its points. If we also know how
+      // to replace NaN values, the step functions can be merged directly
+      // with the same semantics as the iteration below.
+      return StepFunctionAggregation.aggregate(matrices,
+          xDim.getDirection().isIncreasing(), worst, false,
+          nanReplacement, this.m_second, null);
+    }
+
     builder = new CallableMatrixIteration2DBuilder<>();
-    MatrixIteration2DUtils.setupDimensionProperties(builder,
-        this.getXAxisTransformation().getDimension(),
-        this.getYAxisInputTransformation().getDimension(), false, false);
+    MatrixIteration2DUtils.setupDimensionProperties(builder, xDim, yDim,
+        false, false);
     builder.setXDimension(0);
     builder.setYDimension(1);
     builder.setMatrices(matrices);
     builder.setSkipLeadingAndTrailingNaNsOnXAxis(true);
 
-    if (this.m_second.isDispersionStatistic()) {
+    if (nanReplacement == nanReplacement) {
       builder.setSkipLeadingAndTrailingNaNsOnYAxis(false);
-      builder.setNaNReplacementForYAxis(Double.POSITIVE_INFINITY);
+      builder.setNaNReplacementForYAxis(nanReplacement);
     } else {
-      if (this.m_second.isRepresentativeValueStatistic()) {
-        builder.setSkipLeadingAndTrailingNaNsOnYAxis(false);
-        builder.setNaNReplacementForYAxis(//
-            this.getYAxisInputTransformation().getDimension()
-                .getDirection().isIncreasing() ? Double.NEGATIVE_INFINITY
-                    : Double.POSITIVE_INFINITY);
-      } else {
-        builder.setSkipLeadingAndTrailingNaNsOnYAxis(true);
-      }
+      builder.setSkipLeadingAndTrailingNaNsOnYAxis(true);
     }
 
     builder.setVisitor(new Matrix2DAggregate(
@@ -10,6 +10,7 @@ import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTran
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformationParser;
 import org.optimizationBenchmarking.evaluator.attributes.functions.FunctionAttribute;
 import org.optimizationBenchmarking.evaluator.attributes.functions.NamedParameterTransformationParser;
+import org.optimizationBenchmarking.evaluator.attributes.functions.StepFunctionAggregation;
 import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
 import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
@@ -505,10 +506,10 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
    */
   final IMatrix _computeInstanceRuns(final IInstanceRuns data,
       final Logger logger) {
-    final _List list;
-    final DimensionTransformation xIn, yIn;
+    final ArrayListView<? extends IRun> runs;
+    final _ECDFKernel kernel;
+    final DimensionTransformation xIn;
     UnaryFunction yInFunc, xInFunc, yOutFunc;
-    final IDimension timeDim, goalDim;
     final IMatrix result;
     String name;
 
@@ -520,39 +521,19 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
     }
 
     xIn = this.getXAxisTransformation();
-    timeDim = xIn.getDimension();
-
-    yIn = this.getYAxisInputTransformation();
-    yInFunc = yIn.use(data);
-    goalDim = yIn.getDimension();
+    yInFunc = this.getYAxisInputTransformation().use(data);
 
-    if (goalDim.getDataType().isInteger()
-        && yInFunc.isLongArithmeticAccurate()) {
-      if (timeDim.getDataType().isInteger()) {
-        list = new _LongTimeLongGoal(timeDim, goalDim, this.m_criterion,
-            yInFunc, this.m_goalValueLong);
-      } else {
-        list = new _DoubleTimeLongGoal(timeDim, goalDim, this.m_criterion,
-            yInFunc, this.m_goalValueLong);
-      }
-    } else {
-      if (timeDim.getDataType().isInteger()) {
-        list = new _LongTimeDoubleGoal(timeDim, goalDim, this.m_criterion,
-            yInFunc, this.m_goalValueDouble);
-      } else {
-        list = new _DoubleTimeDoubleGoal(timeDim, goalDim,
-            this.m_criterion, yInFunc, this.m_goalValueDouble);
-      }
-    }
+    runs = data.getData();
+    kernel = this._createKernel(yInFunc, runs.size());
 
-    for (final IRun run : data.getData()) {
-      list._addRun(run);
+    for (final IRun run : runs) {
+      kernel._addRun(run);
     }
 
     xInFunc = xIn.use(data);
     yOutFunc = this.getYAxisOutputTransformation().use(data);
 
-    result = list._toMatrix(xInFunc, yOutFunc);
+    result = kernel._toMatrix(xInFunc, yOutFunc);
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       if (name == null) {
@@ -566,6 +547,30 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
     return result;
   }
 
+  /**
+   * Create the kernel for computing this ECDF over a set of runs
+   *
+   * @param yInFunc
+   *          the bound goal transformation
+   * @param runs
+   *          the number of runs which will be added
+   * @return the kernel
+   */
+  final _ECDFKernel _createKernel(final UnaryFunction yInFunc,
+      final int runs) {
+    final DimensionTransformation yIn;
+    final IDimension goalDim;
+
+    yIn = this.getYAxisInputTransformation();
+    goalDim = yIn.getDimension();
+    return new _ECDFKernel(this.getXAxisTransformation().getDimension(),
+        goalDim, this.m_criterion, yInFunc,
+        Transformation.isMonotoneFunction(yInFunc),
+        (goalDim.getDataType().isInteger()
+            && yInFunc.isLongArithmeticAccurate()),
+        this.m_goalValueLong, this.m_goalValueDouble, runs);
+  }
+
   /**
    * Compute the aggregate per experiment
    *
@@ -604,7 +609,7 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
     matrices = new IMatrix[tasks.length];
     Execute.join(tasks, matrices, 0, true);
 
-    result = this.__aggregate(logger, matrices);
+    result = this._aggregate(matrices);
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       if (name == null) {
@@ -624,22 +629,29 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
   /**
    * aggregate over matrices
    *
-   * @param logger
-   *          the logger
    * @param matrices
    *          the matrices
    * @return the result
    */
-  private final IMatrix __aggregate(final Logger logger,
-      final IMatrix[] matrices) {
+  final IMatrix _aggregate(final IMatrix[] matrices) {
+    final boolean isXIncreasing;
+
+    isXIncreasing = this.getXAxisTransformation().getDimension()
+        .getDirection().isIncreasing();
+    if (StepFunctionAggregation.isEnabled()) {
+      // ECDFs are step functions which start at 0 and stay at their last
+      // value, so we can merge them directly instead of iterating over
+      // them
+      return StepFunctionAggregation.aggregate(matrices, isXIncreasing, //
+          0d, true, 1d, this.m_aggregate, null);
+    }
+
     return new CallableMatrixIteration2DBuilder<IMatrix>()//
-        .setLogger(logger)//
         .setStartReplacement(Double.valueOf(0d))//
         .setEndMode(EMissingValueMode.USE_ITERATION_MODE)//
         .setIterationMode(EIterationMode.KEEP_PREVIOUS)//
-        .setXDirection(this.getXAxisTransformation().getDimension()
-            .getDirection().isIncreasing() ? EIterationDirection.INCREASING
-                : EIterationDirection.DECREASING)//
+        .setXDirection(isXIncreasing ? EIterationDirection.INCREASING
+            : EIterationDirection.DECREASING)//
         .setXDimension(0)//
         .setYDimension(1)//
         .setMatrices(matrices)//
@@ -685,7 +697,7 @@ public final class ECDF extends FunctionAttribute<IElementSet> {
     matrices = new IMatrix[tasks.size()];
     Execute.join(tasks, matrices, 0, true);
 
-    result = this.__aggregate(logger, matrices);
+    result = this._aggregate(matrices);
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       if (name == null) {
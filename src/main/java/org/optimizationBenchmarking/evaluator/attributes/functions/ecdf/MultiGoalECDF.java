@@ -0,0 +1,434 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IDataPoint;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IElementSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * A batch of {@link ECDF}s which only differ in their goal values. Reports
+ * usually plot the ECDF for several goal values. Instead of computing each
+ * of them separately, which would require one pass over all data points
+ * of all runs per goal, this attribute computes all of them together.
+ * <p>
+ * If the goal criterion is an ordering relation, i.e., one of
+ * {@link EComparison#LESS}, {@link EComparison#LESS_OR_EQUAL},
+ * {@link EComparison#GREATER}, or {@link EComparison#GREATER_OR_EQUAL},
+ * then a data point reaching a harder goal also reaches all easier goals.
+ * The goals are therefore sorted from the easiest to the hardest one and
+ * each run is processed in a single pass over its data points, in which
+ * the first hit time of each goal is recorded as soon as it is found. The
+ * goal transformation is evaluated only once per data point. For other
+ * criteria, the runs are processed separately for each goal.
+ * </p>
+ * <p>
+ * The result is a list with one matrix per goal value, in the order in
+ * which the goal values were provided to the constructor. Each matrix is
+ * identical to the result of the corresponding {@link ECDF}, which can be
+ * obtained via {@link #getECDFs()}.
+ * </p>
+ */
+public final class MultiGoalECDF
+    extends Attribute<IElementSet, ArrayListView<IMatrix>> {
+
+  /** the ECDFs, one per goal value, in the original order */
+  private final ArrayListView<ECDF> m_ecdfs;
+
+  /** the comparison used to determine whether a goal was met */
+  private final EComparison m_criterion;
+
+  /**
+   * the indexes of the ECDFs, sorted from the easiest to the hardest goal,
+   * or {@code null} if the goals cannot be processed in a single pass
+   */
+  private final int[] m_order;
+
+  /** the goal values as {@code long}, from the easiest to the hardest */
+  private final long[] m_goalsLong;
+
+  /** the goal values as {@code double}, from the easiest to the hardest */
+  private final double[] m_goalsDouble;
+
+  /** the hash code */
+  private final int m_hashCode;
+
+  /**
+   * Create the multi-goal ECDF attribute
+   *
+   * @param xAxisTransformation
+   *          the transformation to be applied to the {@code x}-axis
+   * @param yAxisInputTransformation
+   *          the transformation to be applied to the data of the {@code y}
+   *          -axis before being fed to the actual computation
+   * @param yAxisOutputTransformation
+   *          the transformation of the result of the function applied to
+   *          the data on the {@code y}-axis.
+   * @param goalValues
+   *          the goal values
+   * @param criterion
+   *          the goal comparison criterion
+   * @param aggregate
+   *          the method to aggregate the ECDFs
+   */
+  public MultiGoalECDF(final DimensionTransformation xAxisTransformation,
+      final DimensionTransformation yAxisInputTransformation,
+      final Transformation yAxisOutputTransformation,
+      final Number[] goalValues, final EComparison criterion,
+      final StatisticalParameter aggregate) {
+    super(EAttributeType.NEVER_STORED);
+
+    final ECDF[] ecdfs;
+    final boolean largerIsEasier;
+    int i, j, hash, index;
+
+    if ((goalValues == null) || (goalValues.length <= 0)) {
+      throw new IllegalArgumentException(//
+          "Goal values of multi-goal ECDF cannot be null or empty.");//$NON-NLS-1$
+    }
+
+    ecdfs = new ECDF[goalValues.length];
+    hash = 0;
+    for (i = 0; i < ecdfs.length; i++) {
+      ecdfs[i] = new ECDF(xAxisTransformation, yAxisInputTransformation,
+          yAxisOutputTransformation, goalValues[i], criterion, aggregate);
+      hash = HashUtils.combineHashes(hash, HashUtils.hashCode(ecdfs[i]));
+    }
+
+    this.m_ecdfs = new ArrayListView<>(ecdfs);
+    this.m_criterion = criterion;
+    this.m_hashCode = hash;
+
+    switch (criterion) {
+      case LESS:
+      case LESS_OR_EQUAL: {
+        largerIsEasier = true;
+        break;
+      }
+      case GREATER:
+      case GREATER_OR_EQUAL: {
+        largerIsEasier = false;
+        break;
+      }
+      default: {
+        this.m_order = null;
+        this.m_goalsLong = null;
+        this.m_goalsDouble = null;
+        return;
+      }
+    }
+
+    // sort the goal indexes from the easiest goal to the hardest one
+    this.m_order = new int[ecdfs.length];
+    for (i = 0; i < ecdfs.length; i++) {
+      index = i;
+      inner: for (j = i; j > 0; j--) {
+        if (MultiGoalECDF.__compareGoals(ecdfs[index],
+            ecdfs[this.m_order[j - 1]], largerIsEasier) >= 0) {
+          break inner;
+        }
+        this.m_order[j] = this.m_order[j - 1];
+      }
+      this.m_order[j] = index;
+    }
+
+    this.m_goalsLong = new long[ecdfs.length];
+    this.m_goalsDouble = new double[ecdfs.length];
+    for (i = 0; i < ecdfs.length; i++) {
+      this.m_goalsLong[i] = ecdfs[this.m_order[i]].getGoalValueLong();
+      this.m_goalsDouble[i] = ecdfs[this.m_order[i]].getGoalValueDouble();
+    }
+  }
+
+  /**
+   * Compare the goals of two ECDFs with respect to their difficulty. The
+   * goals are compared as {@code long} values only if both of them are
+   * {@code long}s, otherwise as {@code double}s.
+   *
+   * @param a
+   *          the first ECDF
+   * @param b
+   *          the second ECDF
+   * @param largerIsEasier
+   *          is a larger goal value easier to reach?
+   * @return a negative value if the goal of {@code a} is easier than the
+   *         one of {@code b}, {@code 0} if they are equally hard, a
+   *         positive value otherwise
+   */
+  private static final int __compareGoals(final ECDF a, final ECDF b,
+      final boolean largerIsEasier) {
+    final int result;
+
+    if (a.isGoalValueLong() && b.isGoalValueLong()) {
+      result = Long.compare(a.getGoalValueLong(), b.getGoalValueLong());
+    } else {
+      result = Double.compare(a.getGoalValueDouble(),
+          b.getGoalValueDouble());
+    }
+    return (largerIsEasier ? (-result) : result);
+  }
+
+  /**
+   * Get the ECDFs computed by this attribute, one per goal value, in the
+   * order in which the goal values were provided
+   *
+   * @return the ECDFs
+   */
+  public final ArrayListView<ECDF> getECDFs() {
+    return this.m_ecdfs;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return this.m_hashCode;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof MultiGoalECDF) {
+      return this.m_ecdfs.equals(((MultiGoalECDF) o).m_ecdfs);
+    }
+    return false;
+  }
+
+  /**
+   * Process a single run in one pass over its data points
+   *
+   * @param run
+   *          the run
+   * @param kernels
+   *          the kernels, one per goal, in the original order
+   * @param goalTransform
+   *          the goal transformation
+   * @param isGoalLong
+   *          should the goal be evaluated in {@code long} arithmetic?
+   * @param goalIndex
+   *          the index of the goal dimension
+   */
+  private final void __scan(final IRun run, final _ECDFKernel[] kernels,
+      final UnaryFunction goalTransform, final boolean isGoalLong,
+      final int goalIndex) {
+    final int[] order;
+    long valueLong;
+    double valueDouble;
+    int next;
+
+    order = this.m_order;
+    next = 0;
+
+    points: for (final IDataPoint dp : run.getData()) {
+      if (isGoalLong) {
+        valueLong = goalTransform.computeAsLong(dp.getLong(goalIndex));
+        while (this.m_criterion.compare(valueLong,
+            this.m_goalsLong[next])) {
+          kernels[order[next]]._addHit(run, dp);
+          if ((++next) >= order.length) {
+            break points;
+          }
+        }
+      } else {
+        valueDouble = goalTransform
+            .computeAsDouble(dp.getDouble(goalIndex));
+        while (this.m_criterion.compare(valueDouble,
+            this.m_goalsDouble[next])) {
+          kernels[order[next]]._addHit(run, dp);
+          if ((++next) >= order.length) {
+            break points;
+          }
+        }
+      }
+    }
+
+    // the remaining goals have not been reached
+    for (; next < order.length; next++) {
+      kernels[order[next]]._addHit(run, null);
+    }
+  }
+
+  /**
+   * Compute the ECDFs for a set of instance runs
+   *
+   * @param data
+   *          the data the instance runs
+   * @param logger
+   *          the logger
+   * @return the raw matrices, one per goal
+   */
+  final IMatrix[] _computeInstanceRuns(final IInstanceRuns data,
+      final Logger logger) {
+    final ArrayListView<? extends IRun> runs;
+    final _ECDFKernel[] kernels;
+    final ECDF first;
+    final UnaryFunction yInFunc, xInFunc, yOutFunc;
+    final IDimension goalDim;
+    final IMatrix[] result;
+    final boolean isGoalLong;
+    final int goalIndex;
+    int i;
+
+    first = this.m_ecdfs.get(0);
+    yInFunc = first.getYAxisInputTransformation().use(data);
+    runs = data.getData();
+
+    kernels = new _ECDFKernel[this.m_ecdfs.size()];
+    for (i = kernels.length; (--i) >= 0;) {
+      kernels[i] = this.m_ecdfs.get(i)._createKernel(yInFunc, runs.size());
+    }
+
+    if (this.m_order != null) {
+      goalDim = first.getYAxisInputTransformation().getDimension();
+      goalIndex = goalDim.getIndex();
+      isGoalLong = (goalDim.getDataType().isInteger()
+          && yInFunc.isLongArithmeticAccurate());
+      for (final IRun run : runs) {
+        if (run != null) {
+          this.__scan(run, kernels, yInFunc, isGoalLong, goalIndex);
+        }
+      }
+    } else {
+      for (final _ECDFKernel kernel : kernels) {
+        for (final IRun run : runs) {
+          kernel._addRun(run);
+        }
+      }
+    }
+
+    xInFunc = first.getXAxisTransformation().use(data);
+    yOutFunc = first.getYAxisOutputTransformation().use(data);
+
+    result = new IMatrix[kernels.length];
+    for (i = kernels.length; (--i) >= 0;) {
+      result[i] = kernels[i]._toMatrix(xInFunc, yOutFunc);
+      kernels[i] = null;
+    }
+
+    if ((logger != null) && (logger.isLoggable(Level.FINER))) {
+      logger.finer("Finished computing the ECDFs for " + //$NON-NLS-1$
+          result.length + " goals over " + runs.size() + //$NON-NLS-1$
+          " runs of " + data + '.');//$NON-NLS-1$
+    }
+
+    return result;
+  }
+
+  /**
+   * Compute the ECDFs over a set of instance runs and aggregate them
+   *
+   * @param instanceRuns
+   *          the instance runs
+   * @param logger
+   *          the logger
+   * @return the aggregated matrices
+   */
+  @SuppressWarnings("unchecked")
+  private final ArrayListView<IMatrix> __aggregate(
+      final ArrayList<IInstanceRuns> instanceRuns, final Logger logger) {
+    final Future<IMatrix[]>[] tasks;
+    final IMatrix[][] matrices;
+    final IMatrix[] result, column;
+    int i, j;
+
+    tasks = new Future[instanceRuns.size()];
+    for (i = tasks.length; (--i) >= 0;) {
+      tasks[i] = Execute.parallel(//
+          new __ComputeInstanceRuns(instanceRuns.get(i), logger));
+    }
+
+    matrices = new IMatrix[tasks.length][];
+    Execute.join(tasks, matrices, 0, true);
+
+    result = new IMatrix[this.m_ecdfs.size()];
+    column = new IMatrix[matrices.length];
+    for (i = result.length; (--i) >= 0;) {
+      for (j = column.length; (--j) >= 0;) {
+        column[j] = matrices[j][i];
+        matrices[j][i] = null;
+      }
+      result[i] = this.m_ecdfs.get(i)._aggregate(column);
+    }
+
+    return new ArrayListView<>(result);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final ArrayListView<IMatrix> compute(final IElementSet data,
+      final Logger logger) {
+    final ArrayList<IInstanceRuns> instanceRuns;
+
+    if (data instanceof IInstanceRuns) {
+      return new ArrayListView<>(
+          this._computeInstanceRuns(((IInstanceRuns) data), logger));
+    }
+
+    instanceRuns = new ArrayList<>();
+    if (data instanceof IExperiment) {
+      instanceRuns.addAll(((IExperiment) data).getData());
+      return this.__aggregate(instanceRuns, logger);
+    }
+    if (data instanceof IExperimentSet) {
+      for (final IExperiment exp : ((IExperimentSet) data).getData()) {
+        instanceRuns.addAll(exp.getData());
+      }
+      return this.__aggregate(instanceRuns, logger);
+    }
+
+    throw new IllegalArgumentException(
+        "Cannot compute multi-goal ECDF over "//$NON-NLS-1$
+            + data);
+  }
+
+  /** compute the matrices for a given set of instance runs */
+  private final class __ComputeInstanceRuns
+      implements Callable<IMatrix[]> {
+    /** the instance runs */
+    private final IInstanceRuns m_runs;
+    /** the logger */
+    private final Logger m_logger;
+
+    /**
+     * compute
+     *
+     * @param runs
+     *          the runs
+     * @param logger
+     *          the logger
+     */
+    __ComputeInstanceRuns(final IInstanceRuns runs, final Logger logger) {
+      super();
+      this.m_runs = runs;
+      this.m_logger = logger;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final IMatrix[] call() {
+      return MultiGoalECDF.this._computeInstanceRuns(this.m_runs,
+          this.m_logger);
+    }
+  }
+}
@@ -0,0 +1,614 @@
+package org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.evaluator.data.spec.IDataPoint;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.basic.Identity;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+
+/**
+ * The kernel for computing the ECDF over a set of runs. Each run can
+ * contribute at most one point in time, namely the first time at which it
+ * reached the goal. The hit times are thus collected in a primitive array
+ * whose size is fixed by the number of runs. They are sorted once and then
+ * directly compiled into the storage of the resulting matrix.
+ */
+final class _ECDFKernel {
+
+  /** the time index */
+  private final int m_timeIndex;
+
+  /** the goal index */
+  private final int m_goalIndex;
+
+  /** is the time an increasing dimension ? */
+  private final boolean m_isTimeIncreasing;
+
+  /** is the time dimension an integer dimension? */
+  private final boolean m_isTimeLong;
+
+  /** is the goal evaluated in {@code long} arithmetic? */
+  private final boolean m_isGoalLong;
+
+  /** the goal as {@code long} */
+  private final long m_goalLong;
+
+  /** the goal as {@code double} */
+  private final double m_goalDouble;
+
+  /** the goal criterion */
+  private final EComparison m_criterion;
+
+  /** the goal transformation */
+  private final UnaryFunction m_goalTransform;
+
+  /**
+   * do we need to use the {@link #m_goalTransform goal transformation} and
+   * {@link #m_criterion criterion}?
+   */
+  private final boolean m_useGoalTransformAndCriterion;
+
+  /**
+   * can we find the first data point reaching the goal via binary search
+   * over the goal column instead of checking every single data point?
+   */
+  private final boolean m_useBinarySearch;
+
+  /** the earliest possible time as {@code long} */
+  private final long m_earliestLong;
+
+  /** the earliest possible time as {@code double} */
+  private final double m_earliestDouble;
+
+  /** the hit times, if time is measured in {@code long}s */
+  private long[] m_longTimes;
+
+  /** the hit times, if time is measured in {@code double}s */
+  private double[] m_doubleTimes;
+
+  /** the number of hit times */
+  private int m_size;
+
+  /** the total number of runs */
+  private int m_total;
+
+  /** did a run hit the goal at the earliest possible time? */
+  private boolean m_hasEarliest;
+
+  /** the latest time any run has reached as {@code long} */
+  private long m_lastLong;
+
+  /** the latest time any run has reached as {@code double} */
+  private double m_lastDouble;
+
+  /**
+   * create the kernel
+   *
+   * @param timeDim
+   *          the time dimension
+   * @param goalDim
+   *          the goal dimension
+   * @param criterion
+   *          the goal criterion
+   * @param goalTransform
+   *          the goal transformation
+   * @param isGoalTransformMonotone
+   *          is the goal transformation monotone?
+   * @param isGoalLong
+   *          should the goal be evaluated in {@code long} arithmetic?
+   * @param goalLong
+   *          the goal as {@code long}
+   * @param goalDouble
+   *          the goal as {@code double}
+   * @param runs
+   *          the number of runs which will be added
+   */
+  _ECDFKernel(final IDimension timeDim, final IDimension goalDim,
+      final EComparison criterion, final UnaryFunction goalTransform,
+      final boolean isGoalTransformMonotone, final boolean isGoalLong,
+      final long goalLong, final double goalDouble, final int runs) {
+    super();
+
+    this.m_timeIndex = timeDim.getIndex();
+    this.m_goalIndex = goalDim.getIndex();
+    this.m_isTimeIncreasing = timeDim.getDirection().isIncreasing();
+    this.m_isTimeLong = timeDim.getDataType().isInteger();
+    this.m_isGoalLong = isGoalLong;
+    this.m_goalLong = goalLong;
+    this.m_goalDouble = goalDouble;
+
+    setTransform: {
+
+      if (goalTransform instanceof Identity) {
+        setNoTransform: {
+          switcher: switch (criterion) {
+            case LESS_OR_EQUAL: {
+              if (goalDim.getDirection().isIncreasing()) {
+                break setNoTransform;
+              }
+              break switcher;
+            }
+            case GREATER_OR_EQUAL: {
+              if (goalDim.getDirection().isIncreasing()) {
+                break switcher;
+              }
+              break setNoTransform;
+            }
+            default: {
+              break setNoTransform;
+            }
+          }
+
+          this.m_useGoalTransformAndCriterion = false;
+          this.m_goalTransform = null;
+          this.m_criterion = null;
+          break setTransform;
+        }
+      }
+
+      this.m_useGoalTransformAndCriterion = true;
+      this.m_goalTransform = goalTransform;
+      this.m_criterion = criterion;
+    }
+
+    // The values in the goal column of a run are monotone. If the goal
+    // transformation is monotone, too, and the criterion is an ordering
+    // relation, then the goal is either reached from some point on or
+    // from the very first point on. Either way, binary search can find the
+    // first point reaching the goal.
+    useBinarySearch: {
+      if (this.m_useGoalTransformAndCriterion && isGoalTransformMonotone) {
+        switch (criterion) {
+          case LESS:
+          case LESS_OR_EQUAL:
+          case GREATER:
+          case GREATER_OR_EQUAL: {
+            this.m_useBinarySearch = true;
+            break useBinarySearch;
+          }
+          default: {
+            // equality-based criteria are not monotone
+          }
+        }
+      }
+      this.m_useBinarySearch = false;
+    }
+
+    // We may need to add an "earliest" data point at which no run has
+    // succeeded yet.
+    if (this.m_isTimeLong) {
+      this.m_earliestLong = (this.m_isTimeIncreasing
+          ? timeDim.getParser().getLowerBoundLong()
+          : timeDim.getParser().getUpperBoundLong());
+      this.m_earliestDouble = this.m_earliestLong;
+      this.m_lastLong = (this.m_isTimeIncreasing ? Long.MIN_VALUE
+          : Long.MAX_VALUE);
+      this.m_longTimes = new long[Math.max(runs, 1)];
+    } else {
+      this.m_earliestDouble = (this.m_isTimeIncreasing
+          ? timeDim.getParser().getLowerBoundDouble()
+          : timeDim.getParser().getUpperBoundDouble());
+      this.m_earliestLong = 0L;
+      this.m_lastDouble = (this.m_isTimeIncreasing
+          ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+      this.m_doubleTimes = new double[Math.max(runs, 1)];
+    }
+  }
+
+  /**
+   * Find the first data point of a run which reaches the goal
+   *
+   * @param run
+   *          the run
+   * @return the data point, or {@code null} if the goal was never reached
+   */
+  private final IDataPoint __find(final IRun run) {
+    if (!(this.m_useGoalTransformAndCriterion)) {
+      return (this.m_isGoalLong//
+          ? run.find(this.m_goalIndex, this.m_goalLong)//
+          : run.find(this.m_goalIndex, this.m_goalDouble));
+    }
+
+    if (this.m_useBinarySearch) {
+      return this.__binarySearch(run);
+    }
+    return this.__linearSearch(run);
+  }
+
+  /**
+   * Find the first data point of a run which reaches the goal by checking
+   * all data points one by one.
+   *
+   * @param run
+   *          the run
+   * @return the data point, or {@code null} if the goal was never reached
+   */
+  private final IDataPoint __linearSearch(final IRun run) {
+    final UnaryFunction goalTransform;
+
+    goalTransform = this.m_goalTransform;
+    if (this.m_isGoalLong) {
+      for (final IDataPoint dpx : run.getData()) {
+        if (this.m_criterion.compare(//
+            goalTransform.computeAsLong(//
+                dpx.getLong(this.m_goalIndex)),
+            this.m_goalLong)) {
+          return dpx;
+        }
+      }
+    } else {
+      for (final IDataPoint dpx : run.getData()) {
+        if (this.m_criterion.compare(//
+            goalTransform.computeAsDouble(//
+                dpx.getDouble(this.m_goalIndex)),
+            this.m_goalDouble)) {
+          return dpx;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Check whether the data point at the given row of a run reaches the
+   * goal
+   *
+   * @param run
+   *          the run
+   * @param row
+   *          the row
+   * @return {@code true} if the goal is reached, {@code false} otherwise
+   */
+  private final boolean __reaches(final IRun run, final int row) {
+    if (this.m_isGoalLong) {
+      return this.m_criterion.compare(//
+          this.m_goalTransform.computeAsLong(//
+              run.getLong(row, this.m_goalIndex)),
+          this.m_goalLong);
+    }
+    return this.m_criterion.compare(//
+        this.m_goalTransform.computeAsDouble(//
+            run.getDouble(row, this.m_goalIndex)),
+        this.m_goalDouble);
+  }
+
+  /**
+   * Find the first data point of a run which reaches the goal via binary
+   * search over the goal column. This requires that the
+   * {@link #m_goalTransform goal transformation} is monotone.
+   *
+   * @param run
+   *          the run
+   * @return the data point, or {@code null} if the goal was never reached
+   */
+  private final IDataPoint __binarySearch(final IRun run) {
+    final int m;
+    double value;
+    int low, high, mid;
+
+    m = run.m();
+    if (m <= 0) {
+      return null;
+    }
+    low = 0;
+    high = (m - 1);
+
+    if (!(this.m_isGoalLong)) {
+      // A monotone function may be undefined for a part of its domain,
+      // e.g., the logarithm for negative numbers. Such a region can only
+      // be at one end of the run, so we check both ends and fall back to
+      // the linear search if we hit it.
+      value = this.m_goalTransform
+          .computeAsDouble(run.getDouble(low, this.m_goalIndex));
+      if (value != value) {
+        return this.__linearSearch(run);
+      }
+      value = this.m_goalTransform
+          .computeAsDouble(run.getDouble(high, this.m_goalIndex));
+      if (value != value) {
+        return this.__linearSearch(run);
+      }
+    }
+
+    if (this.__reaches(run, low)) {
+      return run.getData().get(low);
+    }
+    if (!(this.__reaches(run, high))) {
+      return null;
+    }
+
+    // invariant: low does not reach the goal, high does
+    while ((high - low) > 1) {
+      mid = ((low + high) >>> 1);
+      if (this.__reaches(run, mid)) {
+        high = mid;
+      } else {
+        low = mid;
+      }
+    }
+
+    return run.getData().get(high);
+  }
+
+  /**
+   * add a run
+   *
+   * @param run
+   *          the run to add
+   */
+  final void _addRun(final IRun run) {
+    if (run != null) {
+      this._addHit(run, this.__find(run));
+    }
+  }
+
+  /**
+   * add a run for which the first data point reaching the goal has already
+   * been determined
+   *
+   * @param run
+   *          the run to add
+   * @param dp
+   *          the first data point of the run reaching the goal, or
+   *          {@code null} if the run never reached the goal
+   */
+  final void _addHit(final IRun run, final IDataPoint dp) {
+    final int last;
+    long timeLong;
+    double timeDouble;
+
+    this.m_total++;
+    last = (run.m() - 1);
+
+    if (this.m_isTimeLong) {
+      if (dp != null) {
+        timeLong = dp.getLong(this.m_timeIndex);
+        if (timeLong == this.m_earliestLong) {
+          this.m_hasEarliest = true;
+        }
+        this.m_longTimes[this.m_size++] = timeLong;
+      }
+
+      timeLong = run.getLong(last, this.m_timeIndex);
+      if (this.m_isTimeIncreasing) {
+        this.m_lastLong = Math.max(this.m_lastLong, timeLong);
+      } else {
+        this.m_lastLong = Math.min(this.m_lastLong, timeLong);
+      }
+    } else {
+      if (dp != null) {
+        timeDouble = dp.getDouble(this.m_timeIndex);
+        if (EComparison.EQUAL.compare(timeDouble, this.m_earliestDouble)) {
+          this.m_hasEarliest = true;
+        }
+        this.m_doubleTimes[this.m_size++] = timeDouble;
+      }
+
+      timeDouble = run.getDouble(last, this.m_timeIndex);
+      if (this.m_isTimeIncreasing) {
+        this.m_lastDouble = Math.max(this.m_lastDouble, timeDouble);
+      } else {
+        this.m_lastDouble = Math.min(this.m_lastDouble, timeDouble);
+      }
+    }
+  }
+
+  /**
+   * Convert the collected hit times to a matrix
+   *
+   * @param timeTransform
+   *          the time transformation
+   * @param resultTransform
+   *          the result transformation
+   * @return the matrix
+   */
+  final DoubleMatrix1D _toMatrix(final UnaryFunction timeTransform,
+      final UnaryFunction resultTransform) {
+    final DoubleMatrix1D result;
+
+    if (this.m_isTimeLong) {
+      result = _ECDFKernel._toMatrix(this.m_longTimes, this.m_size,
+          this.m_total, this.m_isTimeIncreasing, this.m_hasEarliest,
+          this.m_earliestLong, this.m_lastLong, timeTransform,
+          resultTransform);
+      this.m_longTimes = null;
+    } else {
+      result = _ECDFKernel._toMatrix(this.m_doubleTimes, this.m_size,
+          this.m_total, this.m_isTimeIncreasing, this.m_hasEarliest,
+          this.m_earliestDouble, this.m_lastDouble, timeTransform,
+          resultTransform);
+      this.m_doubleTimes = null;
+    }
+    return result;
+  }
+
+  /**
+   * Compile a sorted array of {@code long} hit times into a matrix of
+   * points of the form (time, fraction of success).
+   *
+   * @param times
+   *          the hit times, will be sorted in place
+   * @param size
+   *          the number of hit times
+   * @param total
+   *          the total number of runs
+   * @param isTimeIncreasing
+   *          is time an increasing dimension?
+   * @param hasEarliest
+   *          is there at least one hit at the earliest possible time?
+   * @param earliest
+   *          the earliest possible time
+   * @param last
+   *          the latest time reached by any run
+   * @param timeTransform
+   *          the time transformation
+   * @param resultTransform
+   *          the result transformation
+   * @return the matrix
+   */
+  static final DoubleMatrix1D _toMatrix(final long[] times, final int size,
+      final int total, final boolean isTimeIncreasing,
+      final boolean hasEarliest, final long earliest, final long last,
+      final UnaryFunction timeTransform,
+      final UnaryFunction resultTransform) {
+    final double[] res;
+    final double dtotal;
+    final int step, end;
+    int rows, i, idx, count;
+    long current;
+
+    Arrays.sort(times, 0, size);
+
+    // count the distinct time values to size the result exactly
+    rows = (hasEarliest ? 0 : 1);
+    for (i = 0; i < size;) {
+      current = times[i];
+      inner: for (; (++i) < size;) {
+        if (times[i] != current) {
+          break inner;
+        }
+      }
+      rows++;
+    }
+
+    if (isTimeIncreasing) {
+      i = 0;
+      end = size;
+      step = 1;
+      current = ((size > 0) ? times[size - 1] : earliest);
+    } else {
+      i = (size - 1);
+      end = (-1);
+      step = (-1);
+      current = ((size > 0) ? times[0] : earliest);
+    }
+    if (current != last) {
+      rows++;
+    }
+
+    res = new double[rows << 1];
+    dtotal = total;
+    idx = 0;
+
+    if (!hasEarliest) {
+      res[idx++] = timeTransform.computeAsDouble((double) earliest);
+      res[idx++] = resultTransform.computeAsDouble(0d / dtotal);
+    }
+
+    for (count = 0; i != end;) {
+      current = times[i];
+      do {
+        count++;
+        i += step;
+      } while ((i != end) && (times[i] == current));
+
+      res[idx++] = timeTransform.computeAsDouble((double) current);
+      res[idx++] = resultTransform.computeAsDouble(count / dtotal);
+    }
+
+    // add a last point if needed
+    if (idx < res.length) {
+      res[idx++] = timeTransform.computeAsDouble((double) last);
+      res[idx] = res[idx - 2];
+    }
+
+    return new DoubleMatrix1D(res, rows, 2);
+  }
+
+  /**
+   * Compile a sorted array of {@code double} hit times into a matrix of
+   * points of the form (time, fraction of success).
+   *
+   * @param times
+   *          the hit times, will be sorted in place
+   * @param size
+   *          the number of hit times
+   * @param total
+   *          the total number of runs
+   * @param isTimeIncreasing
+   *          is time an increasing dimension?
+   * @param hasEarliest
+   *          is there at least one hit at the earliest possible time?
+   * @param earliest
+   *          the earliest possible time
+   * @param last
+   *          the latest time reached by any run
+   * @param timeTransform
+   *          the time transformation
+   * @param resultTransform
+   *          the result transformation
+   * @return the matrix
+   */
+  static final DoubleMatrix1D _toMatrix(final double[] times,
+      final int size, final int total, final boolean isTimeIncreasing,
+      final boolean hasEarliest, final double earliest, final double last,
+      final UnaryFunction timeTransform,
+      final UnaryFunction resultTransform) {
+    final double[] res;
+    final double dtotal;
+    final int step, end;
+    int rows, i, idx, count;
+    double current;
+
+    Arrays.sort(times, 0, size);
+
+    // count the distinct time values to size the result exactly
+    rows = (hasEarliest ? 0 : 1);
+    for (i = 0; i < size;) {
+      current = times[i];
+      inner: for (; (++i) < size;) {
+        if (EComparison.NOT_EQUAL.compare(times[i], current)) {
+          break inner;
+        }
+      }
+      rows++;
+    }
+
+    if (isTimeIncreasing) {
+      i = 0;
+      end = size;
+      step = 1;
+      current = ((size > 0) ? times[size - 1] : earliest);
+    } else {
+      i = (size - 1);
+      end = (-1);
+      step = (-1);
+      current = ((size > 0) ? times[0] : earliest);
+    }
+    if (EComparison.NOT_EQUAL.compare(current, last)) {
+      rows++;
+    }
+
+    res = new double[rows << 1];
+    dtotal = total;
+    idx = 0;
+
+    if (!hasEarliest) {
+      res[idx++] = timeTransform.computeAsDouble(earliest);
+      res[idx++] = resultTransform.computeAsDouble(0d / dtotal);
+    }
+
+    for (count = 0; i != end;) {
+      current = times[i];
+      do {
+        count++;
+        i += step;
+      } while ((i != end) && EComparison.EQUAL.compare(times[i], current));
+
+      res[idx++] = timeTransform.computeAsDouble(current);
+      res[idx++] = resultTransform.computeAsDouble(count / dtotal);
+    }
+
+    // add a last point if needed
+    if (idx < res.length) {
+      res[idx++] = timeTransform.computeAsDouble(last);
+      res[idx] = res[idx - 2];
+    }
+
+    return new DoubleMatrix1D(res, rows, 2);
+  }
+}
@@ -5,6 +5,8 @@ import java.util.logging.Logger;
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
 import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
 
 /**
@@ -26,7 +28,8 @@ public final class DimensionRelationship
    */
   public DimensionRelationship(final DimensionTransformation dimX,
       final DimensionTransformation dimY) {
-    super(EAttributeType.PERMANENTLY_STORED, dimX, dimY, true);
+    super(EAttributeType.PERMANENTLY_STORED, dimX, dimY,
+        _ModelAttributeBase.KIND_FITTING);
   }
 
   /** {@inheritDoc} */
@@ -35,4 +38,56 @@ public final class DimensionRelationship
       final Logger logger) {
     return this._compute(data, logger).fitting;
   }
+
+  /**
+   * Update a fitting after runs have been added to the data, without
+   * fitting all models from scratch. The previous parameters are kept if
+   * they explain the new runs well enough, otherwise the previously
+   * fitted model is fitted again. Only if the quality degrades too much,
+   * all models are fitted from scratch. The result becomes the value of
+   * this attribute for {@code data}, so later queries of the attribute
+   * return it instead of fitting the data again. If a fitting of
+   * {@code data} has already been computed, it is returned as is.
+   *
+   * @param data
+   *          the data, including the new runs
+   * @param previous
+   *          the fitting of the data without the new runs
+   * @param newRuns
+   *          the runs which have been added to the data
+   * @param logger
+   *          the logger
+   * @return the updated fitting
+   */
+  public final IFittingResult refit(final IInstanceRuns data,
+      final IFittingResult previous,
+      final ArrayListView<? extends IRun> newRuns, final Logger logger) {
+    _DimensionRelationshipViaSideEffect side;
+    IFittingResult fitting;
+
+    if (data == null) {
+      throw new IllegalArgumentException("Data cannot be null."); //$NON-NLS-1$
+    }
+
+    side = new _DimensionRelationshipViaSideEffect(this);
+    try {
+      fitting = side.get(data, logger);
+    } catch (@SuppressWarnings("unused") final Throwable expected) {
+      // we expect an error here, since {@code null} is no valid attribute
+      // value
+      fitting = null;
+    }
+    if (fitting != null) {
+      // the data has already been fitted, maybe by an earlier refit
+      return fitting;
+    }
+
+    // Install the updated fitting as value of this attribute, so that it
+    // is not fitted from scratch when the attribute is queried later. If
+    // another thread was faster, we use its fitting.
+    side.m_result = this._refit(data, previous, newRuns, logger).fitting;
+    fitting = side.get(data, logger);
+    side.m_result = null;
+    return fitting;
+  }
 }
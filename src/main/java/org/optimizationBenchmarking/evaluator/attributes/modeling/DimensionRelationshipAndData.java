@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
 import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
 
 /**
@@ -28,7 +29,32 @@ public final class DimensionRelationshipAndData
    */
   public DimensionRelationshipAndData(final DimensionTransformation dimX,
       final DimensionTransformation dimY) {
-    super(EAttributeType.NEVER_STORED, dimX, dimY, false);
+    super(EAttributeType.NEVER_STORED, dimX, dimY,
+        _ModelAttributeBase.KIND_FITTING_AND_DATA);
+  }
+
+  /**
+   * create the model attribute base with a given data reduction instead
+   * of the {@link DimensionRelationshipModels#getDataReduction()
+   * currently configured one}.
+   *
+   * @param dimX
+   *          the model input dimension
+   * @param dimY
+   *          the model output dimension
+   * @param reduction
+   *          the data reduction applied to each run before fitting
+   * @param maxPointsPerRun
+   *          the maximum number of points kept per run by the data
+   *          reduction, at least {@code 2} unless the reduction is
+   *          {@link EDataReduction#NONE}
+   */
+  public DimensionRelationshipAndData(final DimensionTransformation dimX,
+      final DimensionTransformation dimY, final EDataReduction reduction,
+      final int maxPointsPerRun) {
+    super(EAttributeType.NEVER_STORED, dimX, dimY,
+        _ModelAttributeBase.KIND_FITTING_AND_DATA, reduction,
+        maxPointsPerRun);
   }
 
   /** {@inheritDoc} */
@@ -36,6 +62,7 @@ public final class DimensionRelationshipAndData
   protected final DimensionRelationshipData compute(
       final IInstanceRuns data, final Logger logger) {
     final DimensionRelationshipData res;
+    final AbstractMatrix matrix;
     IFittingResult fitting1, fitting2;
     _DimensionRelationshipViaSideEffect side;
 
@@ -50,9 +77,10 @@ public final class DimensionRelationshipAndData
 
     if (fitting1 != null) {
       // Oh, a fitting has already been computed before. We just need to
-      // set up the quality measure.
+      // set up the quality measure, on the shared data matrix.
+      matrix = this._getSharedDataMatrix(data, logger);
       return new DimensionRelationshipData(fitting1, //
-          this._getMeasure(this._getDataMatrix(data)));
+          this._getMeasure(matrix), matrix);
     }
 
     // No fitting has been computed yet. Let's do it.
@@ -70,7 +98,7 @@ public final class DimensionRelationshipAndData
 
     if (fitting1 != fitting2) {
       // Oh, there was already a fitting ... then use the stored one
-      return new DimensionRelationshipData(fitting2, res.measure);
+      return new DimensionRelationshipData(fitting2, res);
     }
     return res;
   }
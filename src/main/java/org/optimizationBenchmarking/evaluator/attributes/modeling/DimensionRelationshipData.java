@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.evaluator.attributes.modeling;
 
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+import org.optimizationBenchmarking.utils.ml.fitting.quality.WeightedRootMeanSquareError;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingQualityMeasure;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
 
@@ -9,12 +11,24 @@ import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
  */
 public final class DimensionRelationshipData {
 
-  /** the fitting result */
+  /**
+   * the maximum number of points of the data matrix of a
+   * {@link #getRepresentative() representative} version
+   */
+  public static final int MAX_REPRESENTATIVE_POINTS = 64;
+
+  /**
+   * the fitting result, whose quality is the quality according to the
+   * {@link #measure}
+   */
   public final IFittingResult fitting;
 
   /** the fitting quality measure */
   public final IFittingQualityMeasure measure;
 
+  /** the data matrix the {@link #measure} is based on */
+  public final AbstractMatrix matrix;
+
   /**
    * Create the dimension relationship data object
    *
@@ -22,11 +36,59 @@ public final class DimensionRelationshipData {
    *          the fitting result
    * @param _measure
    *          the fitting quality measure
+   * @param _matrix
+   *          the data matrix the measure is based on
    */
   DimensionRelationshipData(final IFittingResult _fitting,
-      final IFittingQualityMeasure _measure) {
+      final IFittingQualityMeasure _measure, final AbstractMatrix _matrix) {
     super();
     this.fitting = _fitting;
     this.measure = _measure;
+    this.matrix = _matrix;
+  }
+
+  /**
+   * Create a dimension relationship data object with the same measure as
+   * another one, but a different fitting
+   *
+   * @param _fitting
+   *          the fitting result
+   * @param copy
+   *          the data object to copy the measure from
+   */
+  DimensionRelationshipData(final IFittingResult _fitting,
+      final DimensionRelationshipData copy) {
+    this(_fitting, copy.measure, copy.matrix);
+  }
+
+  /**
+   * Get a compact version of this object, whose measure works on a small
+   * set of points representing the data. It is much cheaper to evaluate
+   * than the full measure and therefore better suited to compare many
+   * other fittings with the data. It also does not reference the full
+   * data matrix. The quality of its fitting is the quality according to
+   * the compact measure. Building it needs sorting the data and one more
+   * evaluation of the fitting, so it should only be done where many
+   * comparisons are needed.
+   *
+   * @return the compact version, or this object if the data matrix is
+   *         small anyway
+   */
+  public final DimensionRelationshipData getRepresentative() {
+    final AbstractMatrix points;
+    final IFittingQualityMeasure representative;
+
+    points = _RepresentativePoints._create(this.matrix);
+    if (points == this.matrix) {
+      return this;
+    }
+
+    representative = new WeightedRootMeanSquareError(points);
+    return new DimensionRelationshipData(//
+        new _StoredFitting(this.fitting.getFittedFunction(),
+            this.fitting.getFittedParametersRef(),
+            representative.evaluate(this.fitting.getFittedFunction(),
+                this.fitting.getFittedParametersRef())), //
+        representative, points);
   }
 }
@@ -23,6 +23,21 @@ import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 /** This class provides models for relationships between dimensions. */
 public final class DimensionRelationshipModels {
 
+  /** the data reduction applied to each run before fitting */
+  private static volatile EDataReduction s_reduction = EDataReduction.NONE;
+
+  /** the maximum number of points kept per run by the data reduction */
+  private static volatile int s_maxPointsPerRun = EDataReduction.DEFAULT_MAX_POINTS_PER_RUN;
+
+  /** should fittings be warm-started from neighboring fittings? */
+  private static volatile boolean s_warmStart = false;
+
+  /** should large data be screened before fitting all models? */
+  private static volatile boolean s_screening = false;
+
+  /** should models and fitters be applied in parallel? */
+  private static volatile boolean s_parallelFitting = true;
+
   /** the hidden constructor */
   private DimensionRelationshipModels() {
     ErrorUtils.doNotCall();
@@ -128,6 +143,135 @@ public final class DimensionRelationshipModels {
     return DefaultFunctionFitter.getAllInstance();
   }
 
+  /**
+   * Get the data reduction applied to each run before fitting models
+   *
+   * @return the data reduction
+   */
+  public static final EDataReduction getDataReduction() {
+    return DimensionRelationshipModels.s_reduction;
+  }
+
+  /**
+   * Get the maximum number of points kept per run by the
+   * {@link #getDataReduction() data reduction}
+   *
+   * @return the maximum number of points per run
+   */
+  public static final int getMaxPointsPerRun() {
+    return DimensionRelationshipModels.s_maxPointsPerRun;
+  }
+
+  /**
+   * Set the data reduction applied to each run before fitting models.
+   * Model attributes remember the data reduction which was configured
+   * when they were created, which is part of their identity. Attributes
+   * created afterwards use the new reduction and thus never see cached
+   * results obtained with another one.
+   *
+   * @param reduction
+   *          the data reduction
+   * @param maxPointsPerRun
+   *          the maximum number of points to keep per run, at least
+   *          {@code 2}
+   */
+  public static final void setDataReduction(
+      final EDataReduction reduction, final int maxPointsPerRun) {
+    if (reduction == null) {
+      throw new IllegalArgumentException(
+          "Data reduction cannot be null.");//$NON-NLS-1$
+    }
+    if (maxPointsPerRun < 2) {
+      throw new IllegalArgumentException(//
+          "At least two points per run must be kept, but "//$NON-NLS-1$
+              + maxPointsPerRun + " were specified.");//$NON-NLS-1$
+    }
+    DimensionRelationshipModels.s_maxPointsPerRun = maxPointsPerRun;
+    DimensionRelationshipModels.s_reduction = reduction;
+  }
+
+  /**
+   * Check whether fittings are warm-started: If so, the fittings of the
+   * instance runs of the same experiment or of the same instance under
+   * other experiments which have already been fitted are used as
+   * starting points and only their models are fitted, unless this gives
+   * a much worse result. Since the instance runs are fitted in parallel,
+   * which neighbors have already been fitted depends on the order of the
+   * threads, so warm-started fittings are not reproducible. They are
+   * therefore never written to the persistent store, which only holds
+   * fittings where all models have been fitted from scratch.
+   *
+   * @return {@code true} if fittings are warm-started, {@code false} if
+   *         all models are always fitted from scratch
+   */
+  public static final boolean isWarmStart() {
+    return DimensionRelationshipModels.s_warmStart;
+  }
+
+  /**
+   * Set whether fittings should be {@link #isWarmStart() warm-started}
+   *
+   * @param warmStart
+   *          {@code true} if fittings should be warm-started,
+   *          {@code false} if all models should always be fitted from
+   *          scratch
+   */
+  public static final void setWarmStart(final boolean warmStart) {
+    DimensionRelationshipModels.s_warmStart = warmStart;
+  }
+
+  /**
+   * Check whether large data is screened: If so, all models are first
+   * fitted to a small sample of data with many points and only the ones
+   * doing best on the sample are fitted to the full data. This is much
+   * faster, but a model which does badly on the sample is never fitted
+   * to the full data, so the result may be worse. Screened fittings are
+   * therefore never written to the persistent store.
+   *
+   * @return {@code true} if large data is screened, {@code false} if all
+   *         models are always fitted to the full data
+   */
+  public static final boolean isScreening() {
+    return DimensionRelationshipModels.s_screening;
+  }
+
+  /**
+   * Set whether large data should be {@link #isScreening() screened}
+   *
+   * @param screening
+   *          {@code true} if large data should be screened, {@code false}
+   *          if all models should always be fitted to the full data
+   */
+  public static final void setScreening(final boolean screening) {
+    DimensionRelationshipModels.s_screening = screening;
+  }
+
+  /**
+   * Check whether each model is fitted with each fitter as a task of its
+   * own, so that a single fitting job can use all worker threads. The
+   * result is chosen from the same candidates as in a serial fitting.
+   *
+   * @return {@code true} if models and fitters are applied in parallel,
+   *         {@code false} if they are applied one after the other
+   */
+  public static final boolean isParallelFitting() {
+    return DimensionRelationshipModels.s_parallelFitting;
+  }
+
+  /**
+   * Set whether models and fitters should be applied
+   * {@link #isParallelFitting() in parallel}
+   *
+   * @param parallelFitting
+   *          {@code true} if models and fitters should be applied in
+   *          parallel, {@code false} if they should be applied one after
+   *          the other
+   */
+  public static final void setParallelFitting(
+      final boolean parallelFitting) {
+    DimensionRelationshipModels.s_parallelFitting = parallelFitting;
+  }
+
   /**
    * Describe the applied function fitting procedure
    *
@@ -0,0 +1,293 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+
+/**
+ * The ways to reduce the number of points of a run before fitting models.
+ * Runs may log millions of points, but the time needed for fitting grows
+ * with the number of points. Each run is reduced to a given maximum
+ * number of its own points, which always include the first and the last
+ * one. Runs with fewer points are used as they are.
+ */
+public enum EDataReduction {
+
+  /** use all points of every run, the default */
+  NONE {
+    /** {@inheritDoc} */
+    @Override
+    final int[] _select(final IRun run, final int xIndex,
+        final int yIndex, final int maxPoints) {
+      return null;
+    }
+  },
+
+  /**
+   * Divide the range of {@code x} coordinates of the run into bins which
+   * are equally wide on a logarithmic scale and, in each bin, keep the
+   * last point, i.e., the value of the step function at the end of the
+   * bin. Since most algorithms improve quickly in the beginning and slowly
+   * later, this keeps much more of the early points than of the late ones.
+   */
+  LOG_BINNING {
+    /** {@inheritDoc} */
+    @Override
+    final int[] _select(final IRun run, final int xIndex,
+        final int yIndex, final int maxPoints) {
+      final int rows, bins;
+      final int[] selected;
+      final double min, scale;
+      int row, bin, count;
+
+      rows = run.m();
+      if (rows <= maxPoints) {
+        return null;
+      }
+
+      min = run.getDouble(0, xIndex);
+      scale = Math.log1p(run.getDouble((rows - 1), xIndex) - min);
+      bins = Math.max(1, (maxPoints - 2));
+      selected = new int[maxPoints];
+
+      selected[0] = 0;
+      count = 1;
+      for (row = 1; row < (rows - 1); row++) {
+        bin = EDataReduction.__logBin(run.getDouble(row, xIndex), min,
+            scale, bins);
+        if (bin != EDataReduction.__logBin(run.getDouble((row + 1), xIndex),
+            min, scale, bins)) {
+          // the last point in its bin
+          if (count < (maxPoints - 1)) {
+            selected[count++] = row;
+          }
+        }
+      }
+      selected[count++] = (rows - 1);
+
+      return ((count < selected.length) ? Arrays.copyOf(selected, count)
+          : selected);
+    }
+  },
+
+  /**
+   * Simplify each run in the way of the Ramer-Douglas-Peucker algorithm:
+   * Starting with the first and last point, the point with the largest
+   * vertical distance from the line between the points chosen so far is
+   * added, until the maximum number of points is reached. The distances
+   * are measured after scaling both coordinates to the unit interval, the
+   * {@code x} coordinates on a logarithmic scale.
+   */
+  SIMPLIFICATION {
+    /** {@inheritDoc} */
+    @Override
+    final int[] _select(final IRun run, final int xIndex,
+        final int yIndex, final int maxPoints) {
+      final int rows;
+      final double[] xs, ys;
+      final boolean[] keep;
+      final PriorityQueue<__Segment> queue;
+      final int[] selected;
+      double minX, minY, maxY, scaleX, scaleY;
+      __Segment segment, parent;
+      int row, count;
+
+      rows = run.m();
+      if (rows <= maxPoints) {
+        return null;
+      }
+
+      xs = new double[rows];
+      ys = new double[rows];
+      minX = run.getDouble(0, xIndex);
+      scaleX = Math.log1p(run.getDouble((rows - 1), xIndex) - minX);
+      if (!(scaleX > 0d)) {
+        scaleX = 1d;
+      }
+      minY = Double.POSITIVE_INFINITY;
+      maxY = Double.NEGATIVE_INFINITY;
+      for (row = rows; (--row) >= 0;) {
+        xs[row] = (Math.log1p(run.getDouble(row, xIndex) - minX) / scaleX);
+        ys[row] = run.getDouble(row, yIndex);
+        if (ys[row] < minY) {
+          minY = ys[row];
+        }
+        if (ys[row] > maxY) {
+          maxY = ys[row];
+        }
+      }
+      scaleY = (maxY - minY);
+      if (!(scaleY > 0d)) {
+        scaleY = 1d;
+      }
+      for (row = rows; (--row) >= 0;) {
+        ys[row] = ((ys[row] - minY) / scaleY);
+      }
+
+      keep = new boolean[rows];
+      keep[0] = keep[rows - 1] = true;
+      count = 2;
+      queue = new PriorityQueue<>();
+      segment = new __Segment(0, (rows - 1), xs, ys);
+      if (segment.m_split > 0) {
+        queue.add(segment);
+      }
+      while ((count < maxPoints) && ((parent = queue.poll()) != null)) {
+        keep[parent.m_split] = true;
+        count++;
+        segment = new __Segment(parent.m_start, parent.m_split, xs, ys);
+        if (segment.m_split > 0) {
+          queue.add(segment);
+        }
+        segment = new __Segment(parent.m_split, parent.m_end, xs, ys);
+        if (segment.m_split > 0) {
+          queue.add(segment);
+        }
+      }
+
+      selected = new int[count];
+      count = 0;
+      for (row = 0; row < rows; row++) {
+        if (keep[row]) {
+          selected[count++] = row;
+        }
+      }
+      return selected;
+    }
+  };
+
+  /** the default maximum number of points per run */
+  public static final int DEFAULT_MAX_POINTS_PER_RUN = 1024;
+
+  /**
+   * Compute the logarithmic bin of an {@code x} coordinate
+   *
+   * @param x
+   *          the {@code x} coordinate
+   * @param min
+   *          the smallest {@code x} coordinate
+   * @param scale
+   *          the logarithmic width of the whole range
+   * @param bins
+   *          the number of bins
+   * @return the bin
+   */
+  private static final int __logBin(final double x, final double min,
+      final double scale, final int bins) {
+    if (!(scale > 0d)) {
+      return 0;
+    }
+    return Math.min((bins - 1),
+        ((int) ((Math.log1p(x - min) / scale) * bins)));
+  }
+
+  /**
+   * Select the rows of a run to be used for fitting
+   *
+   * @param run
+   *          the run
+   * @param xIndex
+   *          the index of the {@code x} dimension
+   * @param yIndex
+   *          the index of the {@code y} dimension
+   * @param maxPoints
+   *          the maximum number of points, at least {@code 2}
+   * @return the sorted indexes of the selected rows, which always include
+   *         the first and the last row, or {@code null} if all rows
+   *         should be used
+   */
+  public final int[] select(final IRun run, final int xIndex,
+      final int yIndex, final int maxPoints) {
+    if (run == null) {
+      throw new IllegalArgumentException("Run cannot be null."); //$NON-NLS-1$
+    }
+    if (maxPoints < 2) {
+      throw new IllegalArgumentException(//
+          "At least two points per run must be kept, but "//$NON-NLS-1$
+              + maxPoints + " were specified.");//$NON-NLS-1$
+    }
+    return this._select(run, xIndex, yIndex, maxPoints);
+  }
+
+  /**
+   * Select the rows of a run to be used for fitting
+   *
+   * @param run
+   *          the run
+   * @param xIndex
+   *          the index of the {@code x} dimension
+   * @param yIndex
+   *          the index of the {@code y} dimension
+   * @param maxPoints
+   *          the maximum number of points, at least {@code 2}
+   * @return the sorted indexes of the selected rows, or {@code null} if
+   *         all rows should be used
+   */
+  abstract int[] _select(final IRun run, final int xIndex,
+      final int yIndex, final int maxPoints);
+
+  /**
+   * A segment between two chosen points, with the point in between which
+   * is farthest from the line connecting them
+   */
+  private static final class __Segment implements Comparable<__Segment> {
+
+    /** the start index */
+    final int m_start;
+    /** the end index */
+    final int m_end;
+    /**
+     * the index of the farthest point, or {@code -1} if there is none or
+     * all points are on the line
+     */
+    final int m_split;
+    /** the distance of the farthest point */
+    final double m_distance;
+
+    /**
+     * create the segment
+     *
+     * @param start
+     *          the start index
+     * @param end
+     *          the end index
+     * @param xs
+     *          the scaled {@code x} coordinates
+     * @param ys
+     *          the scaled {@code y} coordinates
+     */
+    __Segment(final int start, final int end, final double[] xs,
+        final double[] ys) {
+      super();
+
+      final double slope;
+      double distance, best;
+      int index, split;
+
+      this.m_start = start;
+      this.m_end = end;
+
+      slope = ((xs[end] > xs[start])
+          ? ((ys[end] - ys[start]) / (xs[end] - xs[start])) : 0d);
+      best = 0d;
+      split = (-1);
+      for (index = (start + 1); index < end; index++) {
+        distance = Math
+            .abs(ys[index] - (ys[start] + (slope * (xs[index] - xs[start]))));
+        if (distance > best) {
+          best = distance;
+          split = index;
+        }
+      }
+      this.m_split = split;
+      this.m_distance = best;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int compareTo(final __Segment o) {
+      return Double.compare(o.m_distance, this.m_distance);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+
+/**
+ * The immutable matrix of the transformed {@code (x, y)} points of all
+ * runs of an instance runs set, as used for fitting a model. It is
+ * shared by all model attributes with the same dimensions, so the data
+ * needs to be read and transformed only once, no matter whether it is
+ * needed for a fitting, for the quality measure of a fitting loaded from
+ * the cache, or for computing distances between fittings.
+ */
+final class _DataMatrix extends _ModelAttributeBase<AbstractMatrix> {
+
+  /**
+   * create the data matrix attribute
+   *
+   * @param owner
+   *          the model attribute whose dimensions to use
+   */
+  _DataMatrix(final _ModelAttributeBase<?> owner) {
+    super(EAttributeType.TEMPORARILY_STORED,
+        _ModelAttributeBase.KIND_DATA_MATRIX, owner);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final AbstractMatrix compute(final IInstanceRuns data,
+      final Logger logger) {
+    return this._getDataMatrix(data);
+  }
+}
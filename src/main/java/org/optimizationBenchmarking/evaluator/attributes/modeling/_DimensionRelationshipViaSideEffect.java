@@ -19,11 +19,12 @@ final class _DimensionRelationshipViaSideEffect
    * create the model attribute base.
    *
    * @param owner
-   *          the owner
+   *          the owner, whose dimensions and data reduction are used
    */
   public _DimensionRelationshipViaSideEffect(
-      final DimensionRelationshipAndData owner) {
-    super(EAttributeType.PERMANENTLY_STORED, true, owner);
+      final _ModelAttributeBase<?> owner) {
+    super(EAttributeType.PERMANENTLY_STORED,
+        _ModelAttributeBase.KIND_FITTING, owner);
   }
 
   /** {@inheritDoc} */
@@ -1,8 +1,12 @@
 package org.optimizationBenchmarking.evaluator.attributes.modeling;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.Fingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.InstanceRunsFingerprint;
 import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.storage.PersistentStore;
 import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
 import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
 import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
@@ -11,12 +15,17 @@ import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.comparison.Compare;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.basic.Identity;
 import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
 import org.optimizationBenchmarking.utils.math.matrix.impl.LongMatrix1D;
-import org.optimizationBenchmarking.utils.ml.fitting.multi.MultiFunctionFitter;
+import org.optimizationBenchmarking.utils.math.text.ABCParameterRenderer;
 import org.optimizationBenchmarking.utils.ml.fitting.quality.WeightedRootMeanSquareError;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingQualityMeasure;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFunctionFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
 /**
  * The base class for model attributes.
@@ -35,15 +44,56 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
   private static final int DOUBLE_IN_DOUBLE_OUT = (_ModelAttributeBase.LONG_IN_DOUBLE_OUT
       + 1);
 
+  /**
+   * how much worse than before a fitting may become after adding runs
+   * before its model is fitted again
+   */
+  static final double DEGRADATION_THRESHOLD = 1.5d;
+
+  /** the attribute provides the fitting */
+  static final int KIND_FITTING = 0;
+  /** the attribute provides the fitting together with the data */
+  static final int KIND_FITTING_AND_DATA = (_ModelAttributeBase.KIND_FITTING
+      + 1);
+  /** the attribute provides the data matrix */
+  static final int KIND_DATA_MATRIX = (_ModelAttributeBase.KIND_FITTING_AND_DATA
+      + 1);
+
   /** the dimension to be used as model input */
   private final DimensionTransformation m_dimX;
   /** the dimension to be used as model output */
   private final DimensionTransformation m_dimY;
-  /** the class */
-  private final boolean m_class;
+  /** the kind of attribute */
+  private final int m_class;
+  /** the data reduction applied to each run before fitting */
+  private final EDataReduction m_reduction;
+  /** the maximum number of points kept per run by the data reduction */
+  private final int m_maxPointsPerRun;
   /** the internal hash code */
   private final int m_hashCode;
 
+  /**
+   * create the model attribute base with the
+   * {@link DimensionRelationshipModels#getDataReduction() currently
+   * configured data reduction}.
+   *
+   * @param type
+   *          the attribute type
+   * @param dimX
+   *          the model input dimension
+   * @param dimY
+   *          the model output dimension
+   * @param clazz
+   *          the kind of attribute
+   */
+  _ModelAttributeBase(final EAttributeType type,
+      final DimensionTransformation dimX,
+      final DimensionTransformation dimY, final int clazz) {
+    this(type, dimX, dimY, clazz,
+        DimensionRelationshipModels.getDataReduction(),
+        DimensionRelationshipModels.getMaxPointsPerRun());
+  }
+
   /**
    * create the model attribute base.
    *
@@ -54,11 +104,18 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
    * @param dimY
    *          the model output dimension
    * @param clazz
-   *          the class
+   *          the kind of attribute
+   * @param reduction
+   *          the data reduction applied to each run before fitting
+   * @param maxPointsPerRun
+   *          the maximum number of points kept per run by the data
+   *          reduction, at least {@code 2} unless the reduction is
+   *          {@link EDataReduction#NONE}
    */
   _ModelAttributeBase(final EAttributeType type,
       final DimensionTransformation dimX,
-      final DimensionTransformation dimY, final boolean clazz) {
+      final DimensionTransformation dimY, final int clazz,
+      final EDataReduction reduction, final int maxPointsPerRun) {
     super(type);
 
     if (dimX == null) {
@@ -69,6 +126,16 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
       throw new IllegalArgumentException("y dimension cannot be null."); //$NON-NLS-1$
     }
 
+    if (reduction == null) {
+      throw new IllegalArgumentException(
+          "Data reduction cannot be null.");//$NON-NLS-1$
+    }
+    if ((reduction != EDataReduction.NONE) && (maxPointsPerRun < 2)) {
+      throw new IllegalArgumentException(//
+          "At least two points per run must be kept, but "//$NON-NLS-1$
+              + maxPointsPerRun + " were specified.");//$NON-NLS-1$
+    }
+
     DimensionRelationshipModels._checkDimensions(
         dimX.getDimension().getDimensionType(),
         dimY.getDimension().getDimensionType());
@@ -76,11 +143,19 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
     this.m_dimX = dimX;
     this.m_dimY = dimY;
     this.m_class = clazz;
+    this.m_reduction = reduction;
+    // without reduction, the maximum number of points makes no difference
+    this.m_maxPointsPerRun = ((reduction == EDataReduction.NONE) ? 0
+        : maxPointsPerRun);
     this.m_hashCode = HashUtils.combineHashes(//
         HashUtils.combineHashes(//
-            HashUtils.hashCode(this.m_dimX), //
-            HashUtils.hashCode(this.m_dimY)), //
-        HashUtils.hashCode(this.m_class));
+            HashUtils.combineHashes(//
+                HashUtils.hashCode(this.m_dimX), //
+                HashUtils.hashCode(this.m_dimY)), //
+            HashUtils.hashCode(this.m_class)), //
+        HashUtils.combineHashes(//
+            HashUtils.hashCode(this.m_reduction), //
+            HashUtils.hashCode(this.m_maxPointsPerRun)));
   }
 
   /**
@@ -89,13 +164,14 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
    * @param type
    *          the attribute type
    * @param clazz
-   *          the class id
+   *          the kind of attribute
    * @param copy
    *          the attribute to copy
    */
-  _ModelAttributeBase(final EAttributeType type, final boolean clazz,
+  _ModelAttributeBase(final EAttributeType type, final int clazz,
       final _ModelAttributeBase<?> copy) {
-    this(type, copy.m_dimX, copy.m_dimY, clazz);
+    this(type, copy.m_dimX, copy.m_dimY, clazz, copy.m_reduction,
+        copy.m_maxPointsPerRun);
   }
 
   /** {@inheritDoc} */
@@ -116,7 +192,9 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
       eq = ((_ModelAttributeBase<?>) o);
       return ((Compare.equals(this.m_dimX, eq.m_dimX)) && //
           (Compare.equals(this.m_dimY, eq.m_dimY)) && //
-          (this.m_class == eq.m_class));
+          (this.m_class == eq.m_class) && //
+          (this.m_reduction == eq.m_reduction) && //
+          (this.m_maxPointsPerRun == eq.m_maxPointsPerRun));
     }
     return false;
   }
@@ -138,6 +216,117 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
     return _ModelAttributeBase.DOUBLE_IN_DOUBLE_OUT;
   }
 
+  /**
+   * Fill one column of a {@code double} data matrix with the transformed
+   * values of a given dimension of a run. The decision whether to read
+   * {@code long} or {@code double} values and whether the transformation
+   * needs to be applied at all is made once per run instead of once per
+   * data point, so that each loop has a single, monomorphic call site.
+   *
+   * @param run
+   *          the run
+   * @param rows
+   *          the selected rows of the run, or {@code null} for all rows
+   * @param function
+   *          the transformation function
+   * @param index
+   *          the index of the source dimension
+   * @param format
+   *          the dimension format
+   * @param dest
+   *          the destination array
+   * @param offset
+   *          the index of the first element to write, consecutive
+   *          elements are written with a distance of {@code 2}
+   */
+  private static final void __fillDoubles(final IRun run,
+      final int[] rows, final UnaryFunction function, final int index,
+      final int format, final double[] dest, final int offset) {
+    final int end;
+    int i, row, out;
+
+    end = _ModelAttributeBase.__rows(run, rows);
+    out = offset;
+    if (format <= _ModelAttributeBase.LONG_IN_DOUBLE_OUT) {
+      if (function instanceof Identity) {
+        for (i = 0; i < end; i++, out += 2) {
+          row = ((rows == null) ? i : rows[i]);
+          dest[out] = run.getLong(row, index);
+        }
+      } else {
+        for (i = 0; i < end; i++, out += 2) {
+          row = ((rows == null) ? i : rows[i]);
+          dest[out] = function.computeAsDouble(run.getLong(row, index));
+        }
+      }
+    } else {
+      if (function instanceof Identity) {
+        for (i = 0; i < end; i++, out += 2) {
+          row = ((rows == null) ? i : rows[i]);
+          dest[out] = run.getDouble(row, index);
+        }
+      } else {
+        for (i = 0; i < end; i++, out += 2) {
+          row = ((rows == null) ? i : rows[i]);
+          dest[out] = function
+              .computeAsDouble(run.getDouble(row, index));
+        }
+      }
+    }
+  }
+
+  /**
+   * Fill one column of a {@code long} data matrix with the transformed
+   * values of a given dimension of a run.
+   *
+   * @param run
+   *          the run
+   * @param rows
+   *          the selected rows of the run, or {@code null} for all rows
+   * @param function
+   *          the transformation function
+   * @param index
+   *          the index of the source dimension
+   * @param dest
+   *          the destination array
+   * @param offset
+   *          the index of the first element to write, consecutive
+   *          elements are written with a distance of {@code 2}
+   */
+  private static final void __fillLongs(final IRun run, final int[] rows,
+      final UnaryFunction function, final int index, final long[] dest,
+      final int offset) {
+    final int end;
+    int i, row, out;
+
+    end = _ModelAttributeBase.__rows(run, rows);
+    out = offset;
+    if (function instanceof Identity) {
+      for (i = 0; i < end; i++, out += 2) {
+        row = ((rows == null) ? i : rows[i]);
+        dest[out] = run.getLong(row, index);
+      }
+    } else {
+      for (i = 0; i < end; i++, out += 2) {
+        row = ((rows == null) ? i : rows[i]);
+        dest[out] = function.computeAsLong(run.getLong(row, index));
+      }
+    }
+  }
+
+  /**
+   * Get the number of selected rows of a run
+   *
+   * @param run
+   *          the run
+   * @param rows
+   *          the selected rows, or {@code null} for all rows
+   * @return the number of selected rows
+   */
+  private static final int __rows(final IRun run, final int[] rows) {
+    return ((rows == null) ? run.m() : rows.length);
+  }
+
   /**
    * compute the data matrix.
    *
@@ -146,19 +335,28 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
    * @return the matrix
    */
   final AbstractMatrix _getDataMatrix(final IInstanceRuns data) {
-    final ArrayListView<? extends IRun> rawData;
+    return this.__getDataMatrix(data, data.getData());
+  }
+
+  /**
+   * compute the data matrix for some of the runs of the data. The points
+   * of each run are first reduced according to the data reduction of
+   * this attribute.
+   *
+   * @param data
+   *          the data
+   * @param rawData
+   *          the runs to put into the matrix
+   * @return the matrix
+   */
+  private final AbstractMatrix __getDataMatrix(final IInstanceRuns data,
+      final ArrayListView<? extends IRun> rawData) {
     final double[] doubleMatrixData;
     final long[] longMatrixData;
     final UnaryFunction x, y;
     final int xFormat, yFormat, xIndex, yIndex;
-
-    int totalRows, outIndex, inIndex;
-
-    rawData = data.getData();
-    totalRows = 0;
-    for (final IRun run : rawData) {
-      totalRows += run.m();
-    }
+    final int[][] selected;
+    int totalRows, outIndex, runIndex;
 
     x = this.m_dimX.use(data);
     xFormat = _ModelAttributeBase.__getDimSwitch(this.m_dimX);
@@ -168,23 +366,33 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
     yFormat = _ModelAttributeBase.__getDimSwitch(this.m_dimY);
     yIndex = this.m_dimY.getDimension().getIndex();
 
+    selected = new int[rawData.size()][];
+    totalRows = 0;
+    runIndex = 0;
+    for (final IRun run : rawData) {
+      selected[runIndex] = this.m_reduction._select(run, xIndex, yIndex,
+          this.m_maxPointsPerRun);
+      totalRows += _ModelAttributeBase.__rows(run, selected[runIndex]);
+      runIndex++;
+    }
+
     outIndex = (totalRows << 1);
 
+    // The runs are stored from the back of the matrix to the front, each
+    // run as consecutive (x, y) pairs.
     if (Math.max(xFormat,
         yFormat) >= _ModelAttributeBase.LONG_IN_DOUBLE_OUT) {
 
       doubleMatrixData = new double[outIndex];
+      runIndex = 0;
       for (final IRun run : rawData) {
-        for (inIndex = run.m(); (--inIndex) >= 0;) {
-          doubleMatrixData[--outIndex] = //
-          ((yFormat <= _ModelAttributeBase.LONG_IN_DOUBLE_OUT)//
-              ? y.computeAsDouble(run.getLong(inIndex, yIndex))//
-              : y.computeAsDouble(run.getDouble(inIndex, yIndex)));
-          doubleMatrixData[--outIndex] = //
-          ((xFormat <= _ModelAttributeBase.LONG_IN_DOUBLE_OUT)//
-              ? x.computeAsDouble(run.getLong(inIndex, xIndex))//
-              : x.computeAsDouble(run.getDouble(inIndex, xIndex)));
-        }
+        outIndex -= (_ModelAttributeBase.__rows(run,
+            selected[runIndex]) << 1);
+        _ModelAttributeBase.__fillDoubles(run, selected[runIndex], x,
+            xIndex, xFormat, doubleMatrixData, outIndex);
+        _ModelAttributeBase.__fillDoubles(run, selected[runIndex], y,
+            yIndex, yFormat, doubleMatrixData, (outIndex + 1));
+        runIndex++;
       }
 
       if (outIndex == 0) {
@@ -193,14 +401,15 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
     } else {
 
       longMatrixData = new long[outIndex];
+      runIndex = 0;
       for (final IRun run : rawData) {
-        for (inIndex = run.m(); (--inIndex) >= 0;) {
-          longMatrixData[--outIndex] = y
-              .computeAsLong(run.getLong(inIndex, yIndex));
-
-          longMatrixData[--outIndex] = x
-              .computeAsLong(run.getLong(inIndex, xIndex));
-        }
+        outIndex -= (_ModelAttributeBase.__rows(run,
+            selected[runIndex]) << 1);
+        _ModelAttributeBase.__fillLongs(run, selected[runIndex], x,
+            xIndex, longMatrixData, outIndex);
+        _ModelAttributeBase.__fillLongs(run, selected[runIndex], y,
+            yIndex, longMatrixData, (outIndex + 1));
+        runIndex++;
       }
 
       if (outIndex == 0) {
@@ -211,6 +420,22 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
     throw new IllegalStateException("The lengths of the runs changed?"); //$NON-NLS-1$
   }
 
+  /**
+   * Get the data matrix from the {@link _DataMatrix shared data matrix
+   * attribute}, so that it is only built once for fitting, for the
+   * quality measures, and for cache hits.
+   *
+   * @param data
+   *          the data
+   * @param logger
+   *          the logger
+   * @return the matrix
+   */
+  final AbstractMatrix _getSharedDataMatrix(final IInstanceRuns data,
+      final Logger logger) {
+    return new _DataMatrix(this).get(data, logger);
+  }
+
   /**
    * get the fitting quality measure
    *
@@ -223,7 +448,82 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
   }
 
   /**
-   * Perform the computation
+   * Append a description of a dimension transformation to the key for
+   * the {@link PersistentStore}. The rendered transformation only names
+   * its data-based constants, such as instance features or dimension
+   * bounds, so their values for the data are appended as well.
+   *
+   * @param dim
+   *          the dimension transformation
+   * @param data
+   *          the data, or {@code null} if the values of the data-based
+   *          constants should not be included
+   * @param textOut
+   *          the text output
+   */
+  private static final void __appendStoreKey(
+      final DimensionTransformation dim, final IInstanceRuns data,
+      final MemoryTextOutput textOut) {
+    char next;
+
+    textOut.append(dim.getDimension().getName());
+    textOut.append('=');
+    dim.mathRender(textOut, ABCParameterRenderer.INSTANCE);
+    if (data != null) {
+      next = '[';
+      for (final Object value : dim.getConstantValues(data)) {
+        textOut.append(next);
+        next = ';';
+        textOut.append(String.valueOf(value));
+      }
+      if (next != '[') {
+        textOut.append(']');
+      }
+    }
+  }
+
+  /**
+   * Get the key identifying this model in the {@link PersistentStore}
+   * or in the pools of {@link _WarmStart warm-started} fittings. Unlike
+   * the {@link #hashCode() hash code}, it is the same in every process.
+   * The key for the store includes the values of the data-based
+   * constants of the transformations for the data, since the same
+   * transformation may use different values for different instances.
+   * The key for the pools does not, since the fittings of neighbors are
+   * only starting points.
+   *
+   * @param data
+   *          the data for the key for the store, or {@code null} for the
+   *          key for the pools
+   * @return the key
+   */
+  private final String __getStoreKey(final IInstanceRuns data) {
+    final MemoryTextOutput textOut;
+
+    textOut = new MemoryTextOutput();
+    textOut.append("DimensionRelationship("); //$NON-NLS-1$
+    _ModelAttributeBase.__appendStoreKey(this.m_dimX, data, textOut);
+    textOut.append(',');
+    _ModelAttributeBase.__appendStoreKey(this.m_dimY, data, textOut);
+    textOut.append(',');
+    textOut.append(this.m_reduction.name());
+    textOut.append('=');
+    textOut.append(this.m_maxPointsPerRun);
+    textOut.append(')');
+    return textOut.toString();
+  }
+
+  /**
+   * Perform the computation. If a {@link PersistentStore} is configured,
+   * the fitting is taken from there if it has been computed before, for
+   * the same data, in any process. Otherwise, it is stored there after
+   * computation. If {@link DimensionRelationshipModels#isWarmStart()
+   * warm starts} are enabled, the fittings of neighboring instance runs
+   * are tried first. A warm-started fitting depends on which neighbors
+   * happened to be fitted before, so it is not stored. If
+   * {@link DimensionRelationshipModels#isScreening() screening} is
+   * enabled, some models may not be fitted to the full data, so the
+   * fitting is not stored either.
    *
    * @param data
    *          the data
@@ -235,18 +535,144 @@ abstract class _ModelAttributeBase<R> extends Attribute<IInstanceRuns, R> {
       final Logger logger) {
     final AbstractMatrix matrix;
     final IFittingQualityMeasure measure;
+    final ArrayListView<ParametricUnaryFunction> models;
+    final ArrayListView<IFunctionFitter> fitters;
+    final PersistentStore store;
+    final boolean warmStart, screening;
+    final String key, poolKey;
+    final Fingerprint content;
+    IFittingResult fitting;
+
+    matrix = this._getSharedDataMatrix(data, logger);
+    measure = this._getMeasure(matrix);
+    models = DimensionRelationshipModels.getModels(//
+        this.m_dimX.getDimension(), this.m_dimY.getDimension());
+
+    store = PersistentStore.getInstance();
+    warmStart = DimensionRelationshipModels.isWarmStart();
+    screening = DimensionRelationshipModels.isScreening();
+    poolKey = (warmStart ? this.__getStoreKey(null) : null);
+    if (store != null) {
+      key = this.__getStoreKey(data);
+      content = InstanceRunsFingerprint.INSTANCE.get(data, logger);
+      fitting = _StoredFitting._load(store, key, content, models, logger);
+      if (fitting != null) {
+        return new DimensionRelationshipData(fitting, measure, matrix);
+      }
+    } else {
+      key = null;
+      content = null;
+    }
+
+    fitters = DimensionRelationshipModels._getFitters();
+    fitting = (warmStart ? _WarmStart._fit(data, poolKey, matrix, measure,
+        models, fitters, logger) : null);
+    if (fitting == null) {
+      fitting = _StagedFitting._fit(matrix, measure, models, fitters,
+          screening, logger);
+      if ((store != null) && (!(screening))) {
+        _StoredFitting._store(store, key, content, fitting, logger);
+      }
+    }
+
+    if (warmStart) {
+      _WarmStart._publish(data, poolKey, fitting, logger);
+    }
+
+    return new DimensionRelationshipData(fitting, measure, matrix);
+  }
+
+  /**
+   * Update a fitting after runs have been added to the data. First, the
+   * previous fitting is evaluated on the points of the new runs only. If
+   * its quality there is not much worse than its original quality, its
+   * parameters are kept. Otherwise, only the previously fitted model is
+   * fitted again, to all the data. Only if this does not bring the
+   * quality back within the threshold, all models are fitted from
+   * scratch. The fitters cannot start from given parameters, so fitting
+   * the previous model again starts from scratch as well, it just saves
+   * fitting the other models. Like a warm-started fitting, a result based
+   * on the previous fitting depends on the order in which runs were
+   * added, so only a fitting of all models is stored in the
+   * {@link PersistentStore}.
+   *
+   * @param data
+   *          the data, including the new runs
+   * @param previous
+   *          the fitting of the data without the new runs
+   * @param newRuns
+   *          the runs which have been added to the data
+   * @param logger
+   *          the logger
+   * @return the result
+   */
+  final DimensionRelationshipData _refit(final IInstanceRuns data,
+      final IFittingResult previous,
+      final ArrayListView<? extends IRun> newRuns, final Logger logger) {
+    final ArrayListView<ParametricUnaryFunction> models;
+    final ParametricUnaryFunction function;
+    final double[] parameters;
+    final double limit;
+    final AbstractMatrix matrix;
+    final IFittingQualityMeasure measure;
+    IFittingResult fitting;
+    double quality;
+
+    models = DimensionRelationshipModels.getModels(//
+        this.m_dimX.getDimension(), this.m_dimY.getDimension());
+    if ((previous == null) || (!(previous.getQuality() >= 0d))
+        || (!(models.contains(previous.getFittedFunction())))) {
+      return this._compute(data, logger);
+    }
+
+    function = previous.getFittedFunction();
+    parameters = previous.getFittedParametersRef();
+    limit = (previous.getQuality()
+        * _ModelAttributeBase.DEGRADATION_THRESHOLD);
+
+    // check how well the previous fitting explains the new points
+    if ((newRuns == null) || (newRuns.isEmpty())) {
+      quality = previous.getQuality();
+    } else {
+      quality = this._getMeasure(this.__getDataMatrix(data, newRuns))
+          .evaluate(function, parameters);
+    }
 
-    matrix = this._getDataMatrix(data);
+    matrix = this._getSharedDataMatrix(data, logger);
     measure = this._getMeasure(matrix);
+    fitting = null;
+
+    if (quality <= limit) {
+      // the previous parameters still work, so we just re-evaluate them
+      quality = measure.evaluate(function, parameters);
+      if ((quality >= 0d) && (quality <= limit)) {
+        fitting = new _StoredFitting(function, parameters.clone(),
+            quality);
+      }
+    }
+
+    if (fitting == null) {
+      // refine only the previously fitted model
+      fitting = _StagedFitting._fit(matrix, measure,
+          new ArrayListView<>(new ParametricUnaryFunction[] { function },
+              false),
+          DimensionRelationshipModels._getFitters(),
+          DimensionRelationshipModels.isScreening(), logger);
+      if ((fitting == null) || (!(fitting.getQuality() <= limit))) {
+        if ((logger != null) && (logger.isLoggable(Level.FINER))) {
+          logger.finer(//
+              "Quality degraded too much after adding runs to " //$NON-NLS-1$
+                  + data.getInstance().getName()
+                  + ", fitting all models from scratch.");//$NON-NLS-1$
+        }
+        return this._compute(data, logger);
+      }
+    }
+
+    if (DimensionRelationshipModels.isWarmStart()) {
+      _WarmStart._publish(data, this.__getStoreKey(null), fitting, logger);
+    }
 
-    return new DimensionRelationshipData(//
-        MultiFunctionFitter.getInstance().use()//
-            .setLogger(logger)//
-            .setFitters(DimensionRelationshipModels._getFitters())//
-            .setFunctionsToFit(DimensionRelationshipModels.getModels(//
-                this.m_dimX.getDimension(), this.m_dimY.getDimension()))//
-            .setQualityMeasure(measure)//
-            .setPoints(matrix).create().call(), //
-        measure);
+    return new DimensionRelationshipData(fitting, measure, matrix);
   }
 }
@@ -0,0 +1,191 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+
+/**
+ * Reduce a data matrix of {@code (x, y)} points to a small set of
+ * representative points. The points are grouped into bins along the
+ * {@code x} axis whose borders are quantiles of the {@code x} coordinates,
+ * so that each bin holds roughly the same number of points. Each
+ * non-empty bin is represented by the mean {@code x} and {@code y} of its
+ * points or, for a stratified sample, by the point closest to its median
+ * {@code x} coordinate.
+ */
+final class _RepresentativePoints {
+
+  /** the maximum number of representative points */
+  static final int MAX_POINTS = DimensionRelationshipData.MAX_REPRESENTATIVE_POINTS;
+
+  /** the forbidden constructor */
+  private _RepresentativePoints() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the sorted {@code x} coordinates of a data matrix
+   *
+   * @param matrix
+   *          the data matrix
+   * @return the sorted {@code x} coordinates
+   */
+  private static final double[] __sortedX(final AbstractMatrix matrix) {
+    final double[] xs;
+    int row;
+
+    xs = new double[matrix.m()];
+    for (row = xs.length; (--row) >= 0;) {
+      xs[row] = matrix.getDouble(row, 0);
+    }
+    Arrays.sort(xs);
+    return xs;
+  }
+
+  /**
+   * Get the upper borders of all bins but the last one
+   *
+   * @param xs
+   *          the sorted {@code x} coordinates
+   * @param bins
+   *          the number of bins
+   * @return the borders
+   */
+  private static final double[] __borders(final double[] xs,
+      final int bins) {
+    final double[] borders;
+    int bin;
+
+    borders = new double[bins - 1];
+    for (bin = borders.length; (--bin) >= 0;) {
+      borders[bin] = xs[(int) ((((long) (bin + 1)) * xs.length) / bins)];
+    }
+    return borders;
+  }
+
+  /**
+   * Get the bin of an {@code x} coordinate
+   *
+   * @param borders
+   *          the bin borders
+   * @param x
+   *          the {@code x} coordinate
+   * @return the bin
+   */
+  private static final int __bin(final double[] borders, final double x) {
+    final int bin;
+
+    bin = Arrays.binarySearch(borders, x);
+    return ((bin < 0) ? ((-bin) - 1) : bin);
+  }
+
+  /**
+   * Get the representative points of a data matrix
+   *
+   * @param matrix
+   *          the data matrix
+   * @return the representative points, or {@code matrix} itself if it
+   *         does not have more than {@link #MAX_POINTS} rows
+   */
+  static final AbstractMatrix _create(final AbstractMatrix matrix) {
+    final int rows, bins;
+    final double[] borders, sumX, sumY, result;
+    final int[] counts;
+    int row, bin, count;
+    double x;
+
+    rows = matrix.m();
+    if (rows <= _RepresentativePoints.MAX_POINTS) {
+      return matrix;
+    }
+
+    bins = _RepresentativePoints.MAX_POINTS;
+    borders = _RepresentativePoints.__borders(
+        _RepresentativePoints.__sortedX(matrix), bins);
+
+    sumX = new double[bins];
+    sumY = new double[bins];
+    counts = new int[bins];
+    for (row = rows; (--row) >= 0;) {
+      x = matrix.getDouble(row, 0);
+      bin = _RepresentativePoints.__bin(borders, x);
+      sumX[bin] += x;
+      sumY[bin] += matrix.getDouble(row, 1);
+      counts[bin]++;
+    }
+
+    result = new double[bins << 1];
+    count = 0;
+    for (bin = 0; bin < bins; bin++) {
+      if (counts[bin] > 0) {
+        result[count++] = (sumX[bin] / counts[bin]);
+        result[count++] = (sumY[bin] / counts[bin]);
+      }
+    }
+
+    return new DoubleMatrix1D(((count < result.length)//
+        ? Arrays.copyOf(result, count) : result), (count >>> 1), 2);
+  }
+
+  /**
+   * Draw a stratified sample of points from a data matrix. The points are
+   * binned like for {@link #_create(AbstractMatrix)}, but each bin is
+   * represented by the actual point whose {@code x} coordinate is closest
+   * to the median {@code x} coordinate of the bin.
+   *
+   * @param matrix
+   *          the data matrix
+   * @param size
+   *          the maximum number of points in the sample
+   * @return the sample, or {@code matrix} itself if it does not have more
+   *         than {@code size} rows
+   */
+  static final AbstractMatrix _sample(final AbstractMatrix matrix,
+      final int size) {
+    final int rows;
+    final double[] xs, borders, medians, distances, result;
+    final int[] chosen;
+    int row, bin, count;
+    double x, distance;
+
+    rows = matrix.m();
+    if (rows <= size) {
+      return matrix;
+    }
+
+    xs = _RepresentativePoints.__sortedX(matrix);
+    borders = _RepresentativePoints.__borders(xs, size);
+    medians = new double[size];
+    for (bin = size; (--bin) >= 0;) {
+      medians[bin] = xs[(int) ((((2L * bin) + 1L) * rows) / (2L * size))];
+    }
+
+    distances = new double[size];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    chosen = new int[size];
+    Arrays.fill(chosen, -1);
+    for (row = rows; (--row) >= 0;) {
+      x = matrix.getDouble(row, 0);
+      bin = _RepresentativePoints.__bin(borders, x);
+      distance = Math.abs(x - medians[bin]);
+      if ((chosen[bin] < 0) || (distance < distances[bin])) {
+        distances[bin] = distance;
+        chosen[bin] = row;
+      }
+    }
+
+    result = new double[size << 1];
+    count = 0;
+    for (bin = 0; bin < size; bin++) {
+      if ((row = chosen[bin]) >= 0) {
+        result[count++] = matrix.getDouble(row, 0);
+        result[count++] = matrix.getDouble(row, 1);
+      }
+    }
+
+    return new DoubleMatrix1D(((count < result.length)//
+        ? Arrays.copyOf(result, count) : result), (count >>> 1), 2);
+  }
+}
@@ -0,0 +1,387 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+import org.optimizationBenchmarking.utils.ml.fitting.multi.MultiFunctionFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.quality.WeightedRootMeanSquareError;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingQualityMeasure;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFunctionFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * Fitting in two stages: If the data is large and
+ * {@link DimensionRelationshipModels#isScreening() screening} is enabled,
+ * every pair of model and fitter is first applied to a
+ * {@link _RepresentativePoints#_sample stratified sample} of
+ * {@value #SCREENING_POINTS} points. Only the best
+ * {@value #MAX_CANDIDATES} pairs, and of these only those whose quality
+ * on the sample is at most {@value #KEEP_FACTOR} times the best quality,
+ * are then fitted to the full data. Most models lose badly on the sample
+ * already, so this saves most of the fitting effort on large data.
+ * <p>
+ * In both stages, each model/fitter pair is fitted as a task of its own
+ * and the best result according to the quality measure is chosen. This
+ * way, a single large fitting job is spread over the whole pool of
+ * worker threads. If the pool is already saturated, e.g., because many
+ * fitting jobs are running in parallel anyway, or if
+ * {@link DimensionRelationshipModels#isParallelFitting() parallel
+ * fitting} is disabled, the pairs are fitted serially instead, so that we
+ * do not flood the pool with tasks.
+ * </p>
+ */
+final class _StagedFitting {
+
+  /** the number of points used in the screening stage */
+  static final int SCREENING_POINTS = 128;
+
+  /**
+   * the minimum number of data points, in multiples of
+   * {@link #SCREENING_POINTS}, for which a screening stage pays off
+   */
+  private static final int MIN_SIZE_FACTOR = 8;
+
+  /** the maximum number of model/fitter pairs fitted to the full data */
+  static final int MAX_CANDIDATES = 3;
+
+  /**
+   * how much worse than the best one a pair may be on the sample to be
+   * fitted to the full data
+   */
+  static final double KEEP_FACTOR = 2d;
+
+  /**
+   * the number of tasks queued by the current worker thread beyond what
+   * other workers may steal, above which the pool is considered to be
+   * saturated
+   */
+  private static final int SATURATION = 2;
+
+  /** the forbidden constructor */
+  private _StagedFitting() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Check whether the model/fitter pairs should be fitted in parallel
+   *
+   * @return {@code true} if parallel fitting is enabled and we are not
+   *         inside a saturated pool, {@code false} otherwise
+   */
+  private static final boolean __isParallel() {
+    return (DimensionRelationshipModels.isParallelFitting()
+        && (!(ForkJoinTask.inForkJoinPool()) || //
+            (ForkJoinTask.getSurplusQueuedTaskCount() <= //
+            _StagedFitting.SATURATION)));
+  }
+
+  /**
+   * Fit a set of models with a set of fitters
+   *
+   * @param matrix
+   *          the data
+   * @param measure
+   *          the quality measure
+   * @param models
+   *          the models
+   * @param fitters
+   *          the fitters
+   * @param logger
+   *          the logger
+   * @return the best fitting
+   */
+  static final IFittingResult _fitSerial(final AbstractMatrix matrix,
+      final IFittingQualityMeasure measure,
+      final ArrayListView<ParametricUnaryFunction> models,
+      final ArrayListView<IFunctionFitter> fitters, final Logger logger) {
+    return MultiFunctionFitter.getInstance().use()//
+        .setLogger(logger)//
+        .setFitters(fitters)//
+        .setFunctionsToFit(models)//
+        .setQualityMeasure(measure)//
+        .setPoints(matrix).create().call();
+  }
+
+  /**
+   * Get the quality of a fitting
+   *
+   * @param fitting
+   *          the fitting, or {@code null} if it failed
+   * @return the quality, {@link Double#POSITIVE_INFINITY} if the fitting
+   *         failed
+   */
+  private static final double __quality(final IFittingResult fitting) {
+    final double quality;
+
+    if (fitting == null) {
+      return Double.POSITIVE_INFINITY;
+    }
+    quality = fitting.getQuality();
+    return ((quality >= 0d) ? quality : Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Fit the selected model/fitter pairs, each on its own, either in
+   * parallel or serially.
+   *
+   * @param matrix
+   *          the data
+   * @param measure
+   *          the quality measure
+   * @param models
+   *          the models
+   * @param fitters
+   *          the fitters
+   * @param selected
+   *          which pairs to fit, with index
+   *          {@code model * fitters.size() + fitter}, or {@code null} to
+   *          fit all pairs
+   * @param parallel
+   *          should the pairs be fitted in parallel?
+   * @param logger
+   *          the logger
+   * @return the fittings, {@code null} for pairs which failed or were not
+   *         selected
+   */
+  @SuppressWarnings("unchecked")
+  private static final IFittingResult[] __fitPairs(
+      final AbstractMatrix matrix, final IFittingQualityMeasure measure,
+      final ArrayListView<ParametricUnaryFunction> models,
+      final ArrayListView<IFunctionFitter> fitters,
+      final boolean[] selected, final boolean parallel,
+      final Logger logger) {
+    final int fitterCount;
+    final IFittingResult[] results;
+    final Future<IFittingResult>[] futures;
+    __PairFitting task;
+    int pair;
+
+    fitterCount = fitters.size();
+    results = new IFittingResult[models.size() * fitterCount];
+    futures = (parallel ? new Future[results.length] : null);
+
+    for (pair = 0; pair < results.length; pair++) {
+      if ((selected == null) || selected[pair]) {
+        task = new __PairFitting(matrix, measure,
+            models.get(pair / fitterCount), fitters.get(pair % fitterCount),
+            logger);
+        if (parallel) {
+          futures[pair] = Execute.parallel(task);
+        } else {
+          results[pair] = task.call();
+        }
+      }
+    }
+
+    if (parallel) {
+      waiting: for (pair = 0; pair < results.length; pair++) {
+        if (futures[pair] != null) {
+          try {
+            results[pair] = futures[pair].get();
+          } catch (@SuppressWarnings("unused") final InterruptedException ie) {
+            // keep the interrupt and return what we have so far
+            Thread.currentThread().interrupt();
+            break waiting;
+          } catch (final ExecutionException failed) {
+            // failed fittings are skipped, but errors must not be hidden
+            if (failed.getCause() instanceof Error) {
+              throw ((Error) (failed.getCause()));
+            }
+            results[pair] = null;
+          }
+        }
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Fit the models to the data, with a screening stage if the data is
+   * large and screening is requested.
+   *
+   * @param matrix
+   *          the data
+   * @param measure
+   *          the quality measure on the data
+   * @param models
+   *          the models
+   * @param fitters
+   *          the fitters
+   * @param screening
+   *          may large data be screened?
+   * @param logger
+   *          the logger
+   * @return the best fitting
+   */
+  static final IFittingResult _fit(final AbstractMatrix matrix,
+      final IFittingQualityMeasure measure,
+      final ArrayListView<ParametricUnaryFunction> models,
+      final ArrayListView<IFunctionFitter> fitters,
+      final boolean screening, final Logger logger) {
+    final int modelCount, fitterCount;
+    final boolean parallel;
+    final AbstractMatrix sample;
+    final double[] qualities;
+    final boolean[] selected;
+    IFittingResult[] results;
+    IFittingResult result;
+    int pair, best, kept;
+    double bestQuality, limit;
+
+    modelCount = models.size();
+    fitterCount = fitters.size();
+    if ((modelCount * fitterCount) <= 1) {
+      return _StagedFitting._fitSerial(matrix, measure, models, fitters,
+          logger);
+    }
+    parallel = _StagedFitting.__isParallel();
+
+    selected = new boolean[modelCount * fitterCount];
+    if ((!(screening)) || (matrix.m() < (_StagedFitting.SCREENING_POINTS
+        * _StagedFitting.MIN_SIZE_FACTOR))) {
+      if (!parallel) {
+        return _StagedFitting._fitSerial(matrix, measure, models,
+            fitters, logger);
+      }
+      kept = selected.length;
+    } else {
+
+      // screening: fit every model/fitter pair to the sample
+      sample = _RepresentativePoints._sample(matrix,
+          _StagedFitting.SCREENING_POINTS);
+      results = _StagedFitting.__fitPairs(sample,
+          new WeightedRootMeanSquareError(sample), models, fitters, null,
+          parallel, null);
+      qualities = new double[results.length];
+      for (pair = results.length; (--pair) >= 0;) {
+        qualities[pair] = _StagedFitting.__quality(results[pair]);
+      }
+      results = null;
+
+      // selection: pick the best pairs in order of their quality
+      limit = Double.POSITIVE_INFINITY;
+      for (kept = 0; kept < _StagedFitting.MAX_CANDIDATES; kept++) {
+        best = (-1);
+        bestQuality = limit;
+        for (pair = qualities.length; (--pair) >= 0;) {
+          if ((!(selected[pair])) && ((qualities[pair] < bestQuality)
+              || ((best < 0) && (qualities[pair] <= bestQuality)))) {
+            best = pair;
+            bestQuality = qualities[pair];
+          }
+        }
+        if ((best < 0) || (bestQuality >= Double.POSITIVE_INFINITY)) {
+          break;
+        }
+        if (kept <= 0) {
+          limit = (bestQuality * _StagedFitting.KEEP_FACTOR);
+        }
+        selected[best] = true;
+      }
+
+      if (kept <= 0) {
+        // the screening failed completely, so we do not prune anything
+        return _StagedFitting._fitSerial(matrix, measure, models,
+            fitters, logger);
+      }
+
+      if ((logger != null) && (logger.isLoggable(Level.FINEST))) {
+        logger.finest("Screening on " + sample.m() + //$NON-NLS-1$
+            " points kept " + kept + " of " + selected.length + //$NON-NLS-1$//$NON-NLS-2$
+            " model/fitter pairs for fitting " + matrix.m() + //$NON-NLS-1$
+            " points.");//$NON-NLS-1$
+      }
+    }
+
+    results = _StagedFitting.__fitPairs(matrix, measure, models, fitters,
+        ((kept >= selected.length) ? null : selected), parallel, logger);
+
+    result = null;
+    bestQuality = Double.POSITIVE_INFINITY;
+    for (final IFittingResult current : results) {
+      if ((current != null)
+          && (_StagedFitting.__quality(current) < bestQuality)) {
+        result = current;
+        bestQuality = _StagedFitting.__quality(current);
+      }
+    }
+
+    if (result == null) {
+      // all selected pairs failed, so we try everything the usual way
+      return _StagedFitting._fitSerial(matrix, measure, models, fitters,
+          logger);
+    }
+    return result;
+  }
+
+  /** the task fitting one model with one fitter */
+  private static final class __PairFitting
+      implements Callable<IFittingResult> {
+
+    /** the data */
+    private final AbstractMatrix m_matrix;
+    /** the quality measure */
+    private final IFittingQualityMeasure m_measure;
+    /** the model */
+    private final ParametricUnaryFunction m_model;
+    /** the fitter */
+    private final IFunctionFitter m_fitter;
+    /** the logger */
+    private final Logger m_logger;
+
+    /**
+     * create the task
+     *
+     * @param matrix
+     *          the data
+     * @param measure
+     *          the quality measure
+     * @param model
+     *          the model
+     * @param fitter
+     *          the fitter
+     * @param logger
+     *          the logger
+     */
+    __PairFitting(final AbstractMatrix matrix,
+        final IFittingQualityMeasure measure,
+        final ParametricUnaryFunction model, final IFunctionFitter fitter,
+        final Logger logger) {
+      super();
+      this.m_matrix = matrix;
+      this.m_measure = measure;
+      this.m_model = model;
+      this.m_fitter = fitter;
+      this.m_logger = logger;
+    }
+
+    /**
+     * Fit the model
+     *
+     * @return the fitting, or {@code null} if it failed
+     */
+    @Override
+    public final IFittingResult call() {
+      try {
+        return _StagedFitting._fitSerial(this.m_matrix, this.m_measure,
+            new ArrayListView<>(
+                new ParametricUnaryFunction[] { this.m_model }, false),
+            new ArrayListView<>(new IFunctionFitter[] { this.m_fitter },
+                false),
+            this.m_logger);
+      } catch (@SuppressWarnings("unused") final Exception error) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.Fingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.storage.PersistentStore;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+
+/**
+ * A fitting result which was not computed by a fitter, but loaded from
+ * the {@link PersistentStore}, taken over from the fitting of other data,
+ * or re-evaluated on representative points of the data. A fitting is
+ * stored as the class name of the fitted model, its quality, and its
+ * parameters.
+ */
+final class _StoredFitting implements IFittingResult {
+
+  /** the fitted function */
+  private final ParametricUnaryFunction m_function;
+  /** the fitted parameters */
+  private final double[] m_parameters;
+  /** the quality */
+  private final double m_quality;
+
+  /**
+   * create the stored fitting
+   *
+   * @param function
+   *          the fitted function
+   * @param parameters
+   *          the fitted parameters
+   * @param quality
+   *          the quality
+   */
+  _StoredFitting(final ParametricUnaryFunction function,
+      final double[] parameters, final double quality) {
+    super();
+    this.m_function = function;
+    this.m_parameters = parameters;
+    this.m_quality = quality;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final ParametricUnaryFunction getFittedFunction() {
+    return this.m_function;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double[] getFittedParametersRef() {
+    return this.m_parameters;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double getQuality() {
+    return this.m_quality;
+  }
+
+  /**
+   * Load a fitting from the persistent store
+   *
+   * @param store
+   *          the store
+   * @param key
+   *          the key describing the fitting attribute
+   * @param content
+   *          the fingerprint of the data
+   * @param models
+   *          the models which may have been fitted
+   * @param logger
+   *          the logger
+   * @return the fitting, or {@code null} if none was stored
+   */
+  static final IFittingResult _load(final PersistentStore store,
+      final String key, final Fingerprint content,
+      final ArrayListView<ParametricUnaryFunction> models,
+      final Logger logger) {
+    final ByteBuffer buffer;
+    final byte[] name;
+    final String className;
+    final double quality;
+    final double[] parameters;
+    int index;
+
+    buffer = store.read(key, content, logger);
+    if ((buffer == null) || (buffer.remaining() < 4)) {
+      return null;
+    }
+    index = buffer.getInt();
+    if ((index < 0) || (buffer.remaining() < (index + 12))) {
+      return null;
+    }
+    name = new byte[index];
+    buffer.get(name);
+    className = new String(name, StandardCharsets.UTF_8);
+    quality = buffer.getDouble();
+    index = buffer.getInt();
+    if ((index < 0) || (buffer.remaining() != (index << 3))) {
+      return null;
+    }
+    parameters = new double[index];
+    buffer.asDoubleBuffer().get(parameters);
+
+    for (final ParametricUnaryFunction model : models) {
+      if (model.getClass().getName().equals(className)) {
+        return new _StoredFitting(model, parameters, quality);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Store a fitting in the persistent store
+   *
+   * @param store
+   *          the store
+   * @param key
+   *          the key describing the fitting attribute
+   * @param content
+   *          the fingerprint of the data
+   * @param fitting
+   *          the fitting
+   * @param logger
+   *          the logger
+   */
+  static final void _store(final PersistentStore store, final String key,
+      final Fingerprint content, final IFittingResult fitting,
+      final Logger logger) {
+    final byte[] name;
+    final double[] parameters;
+    final ByteBuffer buffer;
+
+    name = fitting.getFittedFunction().getClass().getName()
+        .getBytes(StandardCharsets.UTF_8);
+    parameters = fitting.getFittedParametersRef();
+    buffer = ByteBuffer
+        .allocate(16 + name.length + (parameters.length << 3));
+    buffer.putInt(name.length);
+    buffer.put(name);
+    buffer.putDouble(fitting.getQuality());
+    buffer.putInt(parameters.length);
+    for (final double parameter : parameters) {
+      buffer.putDouble(parameter);
+    }
+    buffer.flip();
+    store.write(key, content, buffer, logger);
+  }
+}
@@ -0,0 +1,170 @@
+package org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.Attribute;
+import org.optimizationBenchmarking.evaluator.data.spec.EAttributeType;
+import org.optimizationBenchmarking.evaluator.data.spec.IDataElement;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingQualityMeasure;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFunctionFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+
+/**
+ * Warm-started fitting: The same algorithm on similar instances usually
+ * behaves similarly, so the fittings of the instance runs of the same
+ * experiment and of the same instance under other experiments are good
+ * starting points. Each experiment and each instance holds a pool with
+ * the latest fitting per model attribute. When fitting new data, the
+ * fittings from these pools are evaluated on the data and only their
+ * models are fitted, instead of all models. If the result is much worse
+ * than what the neighbors achieved on their own data, we fall back to a
+ * cold start with all models. The contents of the pools depend on the
+ * order in which the threads finish, so warm-started fittings are not
+ * reproducible and are never written to the persistent store.
+ */
+final class _WarmStart {
+
+  /**
+   * how much worse than the best neighbor fitting a warm-started fitting
+   * may be before we fall back to a cold start
+   */
+  static final double FALLBACK_FACTOR = 2d;
+
+  /** the forbidden constructor */
+  private _WarmStart() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Add a fitting to the pools of the experiment and instance of the
+   * data.
+   *
+   * @param data
+   *          the data
+   * @param key
+   *          the key identifying the model attribute
+   * @param fitting
+   *          the fitting
+   * @param logger
+   *          the logger
+   */
+  static final void _publish(final IInstanceRuns data, final String key,
+      final IFittingResult fitting, final Logger logger) {
+    if ((fitting == null) || (!(fitting.getQuality() >= 0d))) {
+      return;
+    }
+    __Pool.INSTANCE.get(data.getOwner(), logger).put(key, fitting);
+    __Pool.INSTANCE.get(data.getInstance(), logger).put(key, fitting);
+  }
+
+  /**
+   * Try to fit the models to the data starting from the fittings of
+   * neighboring instance runs.
+   *
+   * @param data
+   *          the data
+   * @param key
+   *          the key identifying the model attribute
+   * @param matrix
+   *          the data matrix
+   * @param measure
+   *          the quality measure on the data
+   * @param models
+   *          the models
+   * @param fitters
+   *          the fitters
+   * @param logger
+   *          the logger
+   * @return the fitting, or {@code null} if there are no neighbor
+   *         fittings or the warm-started fitting is not good enough, in
+   *         which case a cold start is needed
+   */
+  static final IFittingResult _fit(final IInstanceRuns data,
+      final String key, final AbstractMatrix matrix,
+      final IFittingQualityMeasure measure,
+      final ArrayListView<ParametricUnaryFunction> models,
+      final ArrayListView<IFunctionFitter> fitters, final Logger logger) {
+    final IFittingResult[] seeds;
+    final ArrayList<ParametricUnaryFunction> seedModels;
+    IFittingResult result, refit;
+    double limit, quality;
+
+    seeds = new IFittingResult[] {
+        __Pool.INSTANCE.get(data.getOwner(), logger).get(key),
+        __Pool.INSTANCE.get(data.getInstance(), logger).get(key) };
+
+    // evaluate the neighbor fittings on our data
+    result = null;
+    limit = Double.POSITIVE_INFINITY;
+    seedModels = new ArrayList<>(seeds.length);
+    for (final IFittingResult neighbor : seeds) {
+      if ((neighbor == null)
+          || (!(models.contains(neighbor.getFittedFunction())))) {
+        continue;
+      }
+      limit = Math.min(limit,
+          (neighbor.getQuality() * _WarmStart.FALLBACK_FACTOR));
+      if (!(seedModels.contains(neighbor.getFittedFunction()))) {
+        seedModels.add(neighbor.getFittedFunction());
+      }
+      quality = measure.evaluate(neighbor.getFittedFunction(),
+          neighbor.getFittedParametersRef());
+      if ((quality >= 0d) && ((result == null)
+          || (quality < result.getQuality()))) {
+        result = new _StoredFitting(neighbor.getFittedFunction(),
+            neighbor.getFittedParametersRef().clone(), quality);
+      }
+    }
+
+    if (seedModels.isEmpty()) {
+      return null;
+    }
+
+    // fit only the models which worked for the neighbors
+    refit = _StagedFitting._fit(matrix, measure,
+        ArrayListView.collectionToView(seedModels), fitters,
+        DimensionRelationshipModels.isScreening(), logger);
+    if ((refit != null) && (refit.getQuality() >= 0d) && ((result == null)
+        || (refit.getQuality() <= result.getQuality()))) {
+      result = refit;
+    }
+
+    if ((result == null) || (!(result.getQuality() <= limit))) {
+      if ((logger != null) && (logger.isLoggable(Level.FINER))) {
+        logger.finer(//
+            "Warm-started fitting of " + data.getInstance().getName() + //$NON-NLS-1$
+                " is not good enough, falling back to a cold start.");//$NON-NLS-1$
+      }
+      return null;
+    }
+    return result;
+  }
+
+  /** the pool of the latest fittings of a data element */
+  private static final class __Pool extends
+      Attribute<IDataElement, ConcurrentHashMap<String, IFittingResult>> {
+
+    /** the globally shared instance of the pool attribute */
+    static final __Pool INSTANCE = new __Pool();
+
+    /** create the pool attribute */
+    private __Pool() {
+      super(EAttributeType.TEMPORARILY_STORED);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final ConcurrentHashMap<String, IFittingResult> compute(
+        final IDataElement data, final Logger logger) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+}
@@ -0,0 +1,252 @@
+package org.optimizationBenchmarking.evaluator.attributes.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.Fingerprint;
+
+/**
+ * A store which keeps the results of expensive attribute computations on
+ * disk, so that they survive the in-memory data objects and the process.
+ * Each entry is identified by the {@link Fingerprint fingerprint} of the
+ * data and a textual key describing the attribute. The key is used
+ * instead of {@link Object#hashCode()}, which is not stable across
+ * processes. Each entry is a small binary file holding the fingerprint,
+ * the key, and the payload. Entries are read into memory completely, so
+ * that no file handle or mapping is kept open, which would prevent
+ * replacing the file on some systems. They are written to a temporary
+ * file first, which is then moved into place, so concurrent processes
+ * never see half-written entries. The store is only
+ * used if the system property {@value #DIRECTORY_PROPERTY} names a
+ * directory.
+ */
+public final class PersistentStore {
+
+  /** the system property with the store directory */
+  public static final String DIRECTORY_PROPERTY = "optimizationBenchmarking.evaluator.attributes.store"; //$NON-NLS-1$
+
+  /** the magic number at the start of each entry */
+  private static final int MAGIC = 0x4f425354;
+  /** the version of the binary format */
+  private static final int VERSION = 1;
+  /** the suffix of entry files */
+  private static final String SUFFIX = ".bin"; //$NON-NLS-1$
+
+  /** the directory */
+  private final Path m_directory;
+
+  /**
+   * create the store
+   *
+   * @param directory
+   *          the directory
+   */
+  private PersistentStore(final Path directory) {
+    super();
+    this.m_directory = directory;
+  }
+
+  /**
+   * Get the globally shared persistent store
+   *
+   * @return the store, or {@code null} if no store directory has been
+   *         configured
+   */
+  public static final PersistentStore getInstance() {
+    return __PersistentStoreHolder.INSTANCE;
+  }
+
+  /**
+   * Get the path of the entry for a given key and data fingerprint
+   *
+   * @param key
+   *          the key
+   * @param content
+   *          the fingerprint of the data
+   * @return the path
+   */
+  private final Path __getPath(final String key,
+      final Fingerprint content) {
+    return this.m_directory.resolve(content.toString() + '-'
+        + Integer.toHexString(key.hashCode()) + PersistentStore.SUFFIX);
+  }
+
+  /**
+   * Read an entry.
+   *
+   * @param key
+   *          the key describing the attribute
+   * @param content
+   *          the fingerprint of the data
+   * @param logger
+   *          the logger, or {@code null}
+   * @return a read-only buffer whose remaining bytes are the payload of
+   *         the entry, or {@code null} if there is no such entry
+   */
+  public final ByteBuffer read(final String key,
+      final Fingerprint content, final Logger logger) {
+    final Path path;
+    final ByteBuffer buffer;
+    final byte[] keyBytes, storedKey;
+    final long size;
+
+    path = this.__getPath(key, content);
+    if (!(Files.isRegularFile(path))) {
+      return null;
+    }
+
+    try (final FileChannel channel = FileChannel.open(path,
+        StandardOpenOption.READ)) {
+      size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        return null;
+      }
+      buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return null;
+        }
+      }
+    } catch (final IOException ioError) {
+      PersistentStore.__log(logger, "read", path, ioError); //$NON-NLS-1$
+      return null;
+    }
+    buffer.flip();
+
+    keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    if ((buffer.remaining() < 28)
+        || (buffer.getInt() != PersistentStore.MAGIC)
+        || (buffer.getInt() != PersistentStore.VERSION)
+        || (buffer.getLong() != content.getHigh())
+        || (buffer.getLong() != content.getLow())
+        || (buffer.getInt() != keyBytes.length)
+        || (buffer.remaining() < keyBytes.length)) {
+      return null;
+    }
+    storedKey = new byte[keyBytes.length];
+    buffer.get(storedKey);
+    if (!(Arrays.equals(keyBytes, storedKey))) {
+      return null;
+    }
+    return buffer.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Write an entry. Failures are logged but otherwise ignored, since the
+   * store is only a cache.
+   *
+   * @param key
+   *          the key describing the attribute
+   * @param content
+   *          the fingerprint of the data
+   * @param payload
+   *          the payload, all remaining bytes of which will be written
+   * @param logger
+   *          the logger, or {@code null}
+   */
+  public final void write(final String key, final Fingerprint content,
+      final ByteBuffer payload, final Logger logger) {
+    final Path path;
+    final byte[] keyBytes;
+    final ByteBuffer header;
+    Path temp;
+
+    path = this.__getPath(key, content);
+    keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    header = ByteBuffer.allocate(28 + keyBytes.length);
+    header.putInt(PersistentStore.MAGIC);
+    header.putInt(PersistentStore.VERSION);
+    header.putLong(content.getHigh());
+    header.putLong(content.getLow());
+    header.putInt(keyBytes.length);
+    header.put(keyBytes);
+    header.flip();
+
+    temp = null;
+    try {
+      temp = Files.createTempFile(this.m_directory, null,
+          PersistentStore.SUFFIX);
+      try (final FileChannel channel = FileChannel.open(temp,
+          StandardOpenOption.WRITE)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        while (payload.hasRemaining()) {
+          channel.write(payload);
+        }
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      temp = null;
+    } catch (final IOException ioError) {
+      PersistentStore.__log(logger, "write", path, ioError); //$NON-NLS-1$
+    } finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (@SuppressWarnings("unused") final IOException ignore) {
+          // nothing we can do here
+        }
+      }
+    }
+  }
+
+  /**
+   * Log a failed store access
+   *
+   * @param logger
+   *          the logger
+   * @param what
+   *          the kind of access
+   * @param path
+   *          the path
+   * @param error
+   *          the error
+   */
+  private static final void __log(final Logger logger, final String what,
+      final Path path, final Throwable error) {
+    if ((logger != null) && (logger.isLoggable(Level.WARNING))) {
+      logger.log(Level.WARNING, ((("Could not " + what) + //$NON-NLS-1$
+          " persistent attribute store entry ") + path), error); //$NON-NLS-1$
+    }
+  }
+
+  /** the holder for the globally shared store */
+  private static final class __PersistentStoreHolder {
+
+    /** the globally shared store, or {@code null} if none is configured */
+    static final PersistentStore INSTANCE = __PersistentStoreHolder
+        .__create();
+
+    /**
+     * create the store
+     *
+     * @return the store, or {@code null} if none is configured
+     */
+    private static final PersistentStore __create() {
+      final String directory;
+      final Path path;
+
+      directory = System.getProperty(PersistentStore.DIRECTORY_PROPERTY);
+      if ((directory == null) || (directory.trim().isEmpty())) {
+        return null;
+      }
+      try {
+        path = Files.createDirectories(Paths.get(directory.trim()));
+      } catch (@SuppressWarnings("unused") final IOException ioError) {
+        return null;
+      }
+      return new PersistentStore(path);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * A persistent, disk-based store for the results of expensive attribute
+ * computations, such as model fittings and clusterings, which survives
+ * restarts of the evaluator.
+ */
+package org.optimizationBenchmarking.evaluator.attributes.storage;
@@ -0,0 +1,138 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+
+/**
+ * A benchmark of an attribute computation. Many attributes store their
+ * results inside the data they were computed on, so each measured
+ * iteration works on a freshly generated
+ * {@link SyntheticExperimentSet synthetic experiment set}. The time needed
+ * to generate the data is not measured.
+ */
+public abstract class AttributeBenchmark {
+
+  /** the name of the benchmark */
+  private final String m_name;
+
+  /**
+   * create the benchmark
+   *
+   * @param name
+   *          the name of the benchmark
+   */
+  protected AttributeBenchmark(final String name) {
+    super();
+    if (name == null) {
+      throw new IllegalArgumentException(//
+          "Benchmark name cannot be null."); //$NON-NLS-1$
+    }
+    this.m_name = name;
+  }
+
+  /**
+   * Get the name of the benchmark
+   *
+   * @return the name of the benchmark
+   */
+  public final String getName() {
+    return this.m_name;
+  }
+
+  /**
+   * Perform the benchmarked computation once
+   *
+   * @param data
+   *          the experiment set
+   * @param logger
+   *          the logger
+   * @return the result, which must not be {@code null}
+   */
+  protected abstract Object run(final IExperimentSet data,
+      final Logger logger);
+
+  /**
+   * Measure the benchmark on synthetic data of the given size and write
+   * the result as a JSON object
+   *
+   * @param experiments
+   *          the number of experiments
+   * @param instances
+   *          the number of instances
+   * @param runs
+   *          the number of runs per instance and experiment
+   * @param points
+   *          the number of data points per run
+   * @param warmup
+   *          the number of warm-up iterations, which are not measured
+   * @param iterations
+   *          the number of measured iterations
+   * @param logger
+   *          the logger
+   * @param dest
+   *          the destination to write the JSON object to
+   * @throws IOException
+   *           if writing fails
+   */
+  public final void measure(final int experiments, final int instances,
+      final int runs, final int points, final int warmup,
+      final int iterations, final Logger logger, final Appendable dest)
+          throws IOException {
+    final long[] times;
+    IExperimentSet data;
+    long start, end, total;
+    int iteration;
+
+    if (iterations <= 0) {
+      throw new IllegalArgumentException(//
+          "There must be at least one measured iteration, but " //$NON-NLS-1$
+              + iterations + " were specified."); //$NON-NLS-1$
+    }
+
+    times = new long[iterations];
+    for (iteration = (-warmup); iteration < iterations; iteration++) {
+      data = SyntheticExperimentSet.create(experiments, instances, runs,
+          points, iteration, logger);
+      start = System.nanoTime();
+      if (this.run(data, logger) == null) {
+        throw new IllegalStateException("Benchmark '" + this.m_name //$NON-NLS-1$
+            + "' did not produce a result."); //$NON-NLS-1$
+      }
+      end = System.nanoTime();
+      if (iteration >= 0) {
+        times[iteration] = (end - start);
+      }
+    }
+
+    Arrays.sort(times);
+    total = 0L;
+    for (final long time : times) {
+      total += time;
+    }
+
+    dest.append("{\"benchmark\":\""); //$NON-NLS-1$
+    dest.append(this.m_name);
+    dest.append("\",\"experiments\":"); //$NON-NLS-1$
+    dest.append(Integer.toString(experiments));
+    dest.append(",\"instances\":"); //$NON-NLS-1$
+    dest.append(Integer.toString(instances));
+    dest.append(",\"runs\":"); //$NON-NLS-1$
+    dest.append(Integer.toString(runs));
+    dest.append(",\"points\":"); //$NON-NLS-1$
+    dest.append(Integer.toString(points));
+    dest.append(",\"iterations\":"); //$NON-NLS-1$
+    dest.append(Integer.toString(iterations));
+    dest.append(",\"minNanos\":"); //$NON-NLS-1$
+    dest.append(Long.toString(times[0]));
+    dest.append(",\"medianNanos\":"); //$NON-NLS-1$
+    dest.append(Long.toString(times[iterations >>> 1]));
+    dest.append(",\"meanNanos\":"); //$NON-NLS-1$
+    dest.append(Long.toString(total / iterations));
+    dest.append(",\"maxNanos\":"); //$NON-NLS-1$
+    dest.append(Long.toString(times[iterations - 1]));
+    dest.append('}');
+  }
+}
@@ -0,0 +1,315 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.optimizationBenchmarking.evaluator.attributes.OnlySharedInstances;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.behavior.InstanceBehaviorClusterer;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.EGroupingMode;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.PropertyValueGrouper;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.PropertyValueSelector;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.aggregation2D.Aggregation2D;
+import org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationship;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+import org.optimizationBenchmarking.utils.ml.fitting.impl.DefaultFunctionFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.impl.debug.DebugFitter;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFunctionFitter;
+
+import shared.junit.CategorySlowTests;
+
+/**
+ * Run the benchmarks of the hot paths of the attributes and write their
+ * results as JSON array. The results are written to the file given by the
+ * system property {@value #OUTPUT_PROPERTY} or to {@link System#out} if
+ * that property is not set. The sizes of the synthetic data can be
+ * scaled with the integer system property {@value #SCALE_PROPERTY}. The
+ * benchmarks are slow tests, so they only run if that category is
+ * enabled.
+ */
+public class AttributeBenchmarkTest {
+
+  /** the system property with the path of the output file */
+  public static final String OUTPUT_PROPERTY = "attributes.benchmark.output"; //$NON-NLS-1$
+  /** the system property with the scale of the data */
+  public static final String SCALE_PROPERTY = "attributes.benchmark.scale"; //$NON-NLS-1$
+
+  /**
+   * the data sizes: number of experiments, instances, runs per instance,
+   * and points per run
+   */
+  private static final int[][] SIZES = { //
+      { 2, 4, 5, 50 }, //
+      { 4, 8, 10, 100 }, //
+      { 8, 16, 20, 200 },//
+  };
+
+  static {
+    // use the cheap fitter, we measure the attributes, not the fitting
+    DefaultFunctionFitter.setAllInstances(new ArrayListView<>(
+        new IFunctionFitter[] { DebugFitter.getInstance() }));
+  }
+
+  /** create */
+  public AttributeBenchmarkTest() {
+    super();
+  }
+
+  /**
+   * Get the time dimension
+   *
+   * @param data
+   *          the data
+   * @return the time dimension
+   */
+  static final IDimension _time(final IExperimentSet data) {
+    return data.getDimensions()
+        .find(SyntheticExperimentSet.TIME_DIMENSION);
+  }
+
+  /**
+   * Get the objective dimension
+   *
+   * @param data
+   *          the data
+   * @return the objective dimension
+   */
+  static final IDimension _objective(final IExperimentSet data) {
+    return data.getDimensions()
+        .find(SyntheticExperimentSet.OBJECTIVE_DIMENSION);
+  }
+
+  /**
+   * Get all benchmarks
+   *
+   * @return the benchmarks
+   */
+  static final AttributeBenchmark[] _getBenchmarks() {
+    return new AttributeBenchmark[] { //
+        new __ECDFBenchmark(), //
+        new __Aggregation2DBenchmark(), //
+        new __DimensionRelationshipBenchmark(), //
+        new __BehaviorClusteringBenchmark(), //
+        new __PropertyValueGrouperBenchmark(), //
+        new __OnlySharedInstancesBenchmark(),//
+    };
+  }
+
+  /**
+   * Run all benchmarks and write their results as JSON array
+   *
+   * @param scale
+   *          the factor to multiply the data sizes with
+   * @param logger
+   *          the logger
+   * @param dest
+   *          the destination
+   * @throws IOException
+   *           if writing fails
+   */
+  private static final void __runAll(final int scale, final Logger logger,
+      final Writer dest) throws IOException {
+    boolean first;
+
+    first = true;
+    dest.append('[');
+    for (final AttributeBenchmark benchmark : AttributeBenchmarkTest
+        ._getBenchmarks()) {
+      for (final int[] size : AttributeBenchmarkTest.SIZES) {
+        if (first) {
+          first = false;
+        } else {
+          dest.append(',');
+        }
+        dest.append('\n');
+        benchmark.measure(size[0], size[1], size[2], (size[3] * scale), 3,
+            10, logger, dest);
+        dest.flush();
+      }
+    }
+    dest.append("\n]\n"); //$NON-NLS-1$
+    dest.flush();
+  }
+
+  /**
+   * Run the benchmarks
+   *
+   * @throws IOException
+   *           if writing the results fails
+   */
+  @Test(timeout = 36000000)
+  @Category(CategorySlowTests.class)
+  public void testBenchmarks() throws IOException {
+    final String output;
+    final int scale;
+
+    output = System.getProperty(AttributeBenchmarkTest.OUTPUT_PROPERTY);
+    scale = Math.max(1, Integer
+        .getInteger(AttributeBenchmarkTest.SCALE_PROPERTY, 1).intValue());
+
+    if (output == null) {
+      AttributeBenchmarkTest.__runAll(scale, null,
+          new BufferedWriter(new OutputStreamWriter(System.out)));
+    } else {
+      try (final Writer writer = Files.newBufferedWriter(
+          Paths.get(output), StandardCharsets.UTF_8)) {
+        AttributeBenchmarkTest.__runAll(scale, null, writer);
+      }
+    }
+  }
+
+  /** the benchmark of the ECDF over an experiment set */
+  private static final class __ECDFBenchmark extends AttributeBenchmark {
+
+    /** create */
+    __ECDFBenchmark() {
+      super("ECDF"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      return new ECDF(
+          new DimensionTransformation(AttributeBenchmarkTest._time(data)),
+          new DimensionTransformation(
+              AttributeBenchmarkTest._objective(data)),
+          new Transformation(), Double.valueOf(1d),
+          EComparison.LESS_OR_EQUAL, ArithmeticMean.INSTANCE)
+              .get(data, logger);
+    }
+  }
+
+  /** the benchmark of the 2D aggregation over an experiment set */
+  private static final class __Aggregation2DBenchmark
+      extends AttributeBenchmark {
+
+    /** create */
+    __Aggregation2DBenchmark() {
+      super("Aggregation2D"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      return new Aggregation2D(
+          new DimensionTransformation(AttributeBenchmarkTest._time(data)),
+          new DimensionTransformation(
+              AttributeBenchmarkTest._objective(data)),
+          new Transformation(), Median.INSTANCE, Median.INSTANCE)
+              .get(data, logger);
+    }
+  }
+
+  /**
+   * the benchmark of the model fitting for each instance run set, which
+   * with the debug fitter is dominated by building the data matrices
+   */
+  private static final class __DimensionRelationshipBenchmark
+      extends AttributeBenchmark {
+
+    /** create */
+    __DimensionRelationshipBenchmark() {
+      super("DimensionRelationship"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      final DimensionRelationship relationship;
+
+      relationship = new DimensionRelationship(
+          new DimensionTransformation(AttributeBenchmarkTest._time(data)),
+          new DimensionTransformation(
+              AttributeBenchmarkTest._objective(data)));
+      for (final IExperiment experiment : data.getData()) {
+        for (final IInstanceRuns runs : experiment.getData()) {
+          if (relationship.get(runs, logger) == null) {
+            return null;
+          }
+        }
+      }
+      return data;
+    }
+  }
+
+  /**
+   * the benchmark of the instance behavior clustering, which includes the
+   * distance computation
+   */
+  private static final class __BehaviorClusteringBenchmark
+      extends AttributeBenchmark {
+
+    /** create */
+    __BehaviorClusteringBenchmark() {
+      super("InstanceBehaviorClusterer"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      return new InstanceBehaviorClusterer(new DimensionTransformation[] {
+          new DimensionTransformation(AttributeBenchmarkTest._time(data)),
+          new DimensionTransformation(
+              AttributeBenchmarkTest._objective(data)) },
+          -1, -1).get(data, logger);
+    }
+  }
+
+  /** the benchmark of the grouping of parameter values */
+  private static final class __PropertyValueGrouperBenchmark
+      extends AttributeBenchmark {
+
+    /** create */
+    __PropertyValueGrouperBenchmark() {
+      super("PropertyValueGrouper"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      return new PropertyValueSelector(
+          SyntheticExperimentSet.NUMERICAL_PARAMETER,
+          new PropertyValueGrouper(EGroupingMode.ANY, null, 2, 10))
+              .get(data, logger);
+    }
+  }
+
+  /** the benchmark of the selection of shared instances */
+  private static final class __OnlySharedInstancesBenchmark
+      extends AttributeBenchmark {
+
+    /** create */
+    __OnlySharedInstancesBenchmark() {
+      super("OnlySharedInstances"); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object run(final IExperimentSet data,
+        final Logger logger) {
+      return OnlySharedInstances.INSTANCE.get(data, logger);
+    }
+  }
+}
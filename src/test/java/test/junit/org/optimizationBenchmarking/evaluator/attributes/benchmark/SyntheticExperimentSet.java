@@ -0,0 +1,254 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark;
+
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * A generator for synthetic experiment sets of a given size. Each set has
+ * a time dimension ({@value #TIME_DIMENSION}, strictly increasing), an
+ * objective dimension ({@value #OBJECTIVE_DIMENSION}, decreasing), one
+ * numerical and one textual feature, as well as one numerical and one
+ * textual parameter. The runs follow a noisy exponential decay, so that
+ * the data looks like the progress of an optimization algorithm. The same
+ * seed always yields the same data.
+ */
+public final class SyntheticExperimentSet {
+
+  /** the name of the time dimension */
+  public static final String TIME_DIMENSION = "FEs"; //$NON-NLS-1$
+  /** the name of the objective dimension */
+  public static final String OBJECTIVE_DIMENSION = "F"; //$NON-NLS-1$
+  /** the name of the numerical feature */
+  public static final String NUMERICAL_FEATURE = "n"; //$NON-NLS-1$
+  /** the name of the textual feature */
+  public static final String TEXTUAL_FEATURE = "kind"; //$NON-NLS-1$
+  /** the name of the numerical parameter */
+  public static final String NUMERICAL_PARAMETER = "populationSize"; //$NON-NLS-1$
+  /** the name of the textual parameter */
+  public static final String TEXTUAL_PARAMETER = "operator"; //$NON-NLS-1$
+
+  /** the forbidden constructor */
+  private SyntheticExperimentSet() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Create a synthetic experiment set
+   *
+   * @param experiments
+   *          the number of experiments
+   * @param instances
+   *          the number of instances
+   * @param runs
+   *          the number of runs per instance and experiment
+   * @param points
+   *          the number of data points per run
+   * @param seed
+   *          the seed of the random number generator
+   * @param logger
+   *          the logger, or {@code null} if none is needed
+   * @return the experiment set
+   */
+  public static final IExperimentSet create(final int experiments,
+      final int instances, final int runs, final int points,
+      final long seed, final Logger logger) {
+    return SyntheticExperimentSet.create(experiments, instances, runs,
+        points, seed, 0d, logger);
+  }
+
+  /**
+   * Create a synthetic experiment set whose objective values are shifted
+   * by a constant. With a positive shift, the runs converge to negative
+   * objective values.
+   *
+   * @param experiments
+   *          the number of experiments
+   * @param instances
+   *          the number of instances
+   * @param runs
+   *          the number of runs per instance and experiment
+   * @param points
+   *          the number of data points per run
+   * @param seed
+   *          the seed of the random number generator
+   * @param shift
+   *          the value to subtract from each objective value
+   * @param logger
+   *          the logger, or {@code null} if none is needed
+   * @return the experiment set
+   */
+  public static final IExperimentSet create(final int experiments,
+      final int instances, final int runs, final int points,
+      final long seed, final double shift, final Logger logger) {
+    return SyntheticExperimentSet.create(experiments, instances, runs,
+        points, seed, shift, 0d, logger);
+  }
+
+  /**
+   * Create a synthetic experiment set whose objective values are shifted
+   * by a constant and whose very last data point is changed. Apart from
+   * that point, the data is the same as without the change.
+   *
+   * @param experiments
+   *          the number of experiments
+   * @param instances
+   *          the number of instances
+   * @param runs
+   *          the number of runs per instance and experiment
+   * @param points
+   *          the number of data points per run
+   * @param seed
+   *          the seed of the random number generator
+   * @param shift
+   *          the value to subtract from each objective value
+   * @param change
+   *          the non-negative value to subtract from the objective value
+   *          of the last point of the last run of the last experiment
+   * @param logger
+   *          the logger, or {@code null} if none is needed
+   * @return the experiment set
+   */
+  public static final IExperimentSet create(final int experiments,
+      final int instances, final int runs, final int points,
+      final long seed, final double shift, final double change,
+      final Logger logger) {
+    final Random random;
+    final String[] names;
+    final double[] scales;
+    final IExperimentSet result;
+    double speed;
+    int experiment, instance;
+
+    if ((experiments <= 0) || (instances <= 0) || (runs <= 0)
+        || (points <= 0)) {
+      throw new IllegalArgumentException(//
+          "There must be at least one experiment, instance, run, and point, but " //$NON-NLS-1$
+              + experiments + " experiments, " + instances //$NON-NLS-1$
+              + " instances, " + runs + " runs, and " + points //$NON-NLS-1$//$NON-NLS-2$
+              + " points were specified."); //$NON-NLS-1$
+    }
+
+    random = new Random(seed);
+    names = new String[instances];
+    scales = new double[instances];
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(
+        logger)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(SyntheticExperimentSet.TIME_DIMENSION);
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(SyntheticExperimentSet.OBJECTIVE_DIMENSION);
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        for (instance = 0; instance < instances; instance++) {
+          names[instance] = ("i" + instance); //$NON-NLS-1$
+          scales[instance] = (1d + (1000d * random.nextDouble()));
+          try (final InstanceContext ic = isc.createInstance()) {
+            ic.setName(names[instance]);
+            ic.setFeatureValue(SyntheticExperimentSet.NUMERICAL_FEATURE,
+                Integer.valueOf(10 + random.nextInt(1000)));
+            ic.setFeatureValue(SyntheticExperimentSet.TEXTUAL_FEATURE,
+                ("k" + random.nextInt(3))); //$NON-NLS-1$
+          }
+        }
+      }
+
+      for (experiment = 0; experiment < experiments; experiment++) {
+        speed = (0.5d + random.nextDouble());
+        try (final ExperimentContext ec = esc.createExperiment()) {
+          ec.setName("e" + experiment); //$NON-NLS-1$
+          ec.setParameterValue(SyntheticExperimentSet.NUMERICAL_PARAMETER,
+              Integer.valueOf(1 << random.nextInt(10)));
+          ec.setParameterValue(SyntheticExperimentSet.TEXTUAL_PARAMETER,
+              ("op" + random.nextInt(4))); //$NON-NLS-1$
+
+          for (instance = 0; instance < instances; instance++) {
+            try (final InstanceRunsContext irc = ec
+                .createInstanceRuns()) {
+              irc.setInstance(names[instance]);
+              SyntheticExperimentSet.__createRuns(irc, runs, points,
+                  scales[instance], speed, shift,
+                  ((((experiment + 1) >= experiments)
+                      && ((instance + 1) >= instances)) ? change : 0d),
+                  random);
+            }
+          }
+        }
+      }
+
+      result = esc.create();
+    }
+
+    return result;
+  }
+
+  /**
+   * Create the runs of one instance runs set
+   *
+   * @param irc
+   *          the instance runs context
+   * @param runs
+   *          the number of runs
+   * @param points
+   *          the number of points per run
+   * @param scale
+   *          the scale of the objective values
+   * @param speed
+   *          the speed of convergence
+   * @param shift
+   *          the value to subtract from each objective value
+   * @param change
+   *          the value to subtract additionally from the objective value
+   *          of the last point of the last run
+   * @param random
+   *          the random number generator
+   */
+  private static final void __createRuns(final InstanceRunsContext irc,
+      final int runs, final int points, final double scale,
+      final double speed, final double shift, final double change,
+      final Random random) {
+    double f;
+    long fes;
+    int run, point;
+
+    for (run = 0; run < runs; run++) {
+      try (final RunContext rc = irc.createRun()) {
+        fes = 1L;
+        f = (scale * (1d + random.nextDouble()));
+        for (point = 0; point < points; point++) {
+          rc.addDataPoint(Long.valueOf(fes),
+              Double.valueOf((((run + 1) >= runs) && ((point + 1) >= points))
+                  ? ((f - shift) - change) : (f - shift)));
+          fes += (1L + random.nextInt(1 + (point << 1)));
+          f *= (1d - (speed * random.nextDouble() * 0.5d));
+        }
+      }
+    }
+  }
+}
@@ -1,12 +1,17 @@
 package test.junit.org.optimizationBenchmarking.evaluator.attributes.clustering;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.optimizationBenchmarking.evaluator.attributes.clusters.behavior.AlgorithmBehaviorClusterer;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipModels;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.EDataReduction;
 import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
 import org.optimizationBenchmarking.utils.ml.clustering.impl.DefaultClusterer;
 
 import shared.junit.CategorySlowTests;
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
 import test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipTest;
 
 /** Test the clustering by instance behavior */
@@ -61,4 +66,49 @@ public class AlgorithmBehaviorClusteringTest extends ClusteringTest {
   public void testAttributeOnRandomData() {
     super.testAttributeOnRandomData();
   }
+
+  /**
+   * Clusterers created under different data reductions fit different
+   * models and must therefore neither be equal nor share fittings.
+   */
+  @Test(timeout = 3600000)
+  public void testDataReductionIsPartOfIdentity() {
+    final EDataReduction reduction;
+    final int maxPoints;
+    final DimensionTransformation[] transformations;
+    final AlgorithmBehaviorClusterer none, noneCopy, binning, binningCopy,
+        fewer;
+
+    reduction = DimensionRelationshipModels.getDataReduction();
+    maxPoints = DimensionRelationshipModels.getMaxPointsPerRun();
+    transformations = ClusteringTest.getTransformations(
+        SyntheticExperimentSet.create(2, 2, 3, 10, 4711L, null));
+    try {
+      DimensionRelationshipModels.setDataReduction(EDataReduction.NONE,
+          16);
+      none = new AlgorithmBehaviorClusterer(transformations, -1, -1);
+      DimensionRelationshipModels.setDataReduction(EDataReduction.NONE,
+          32);
+      noneCopy = new AlgorithmBehaviorClusterer(transformations, -1, -1);
+      DimensionRelationshipModels
+          .setDataReduction(EDataReduction.LOG_BINNING, 32);
+      binning = new AlgorithmBehaviorClusterer(transformations, -1, -1);
+      binningCopy = new AlgorithmBehaviorClusterer(transformations, -1,
+          -1);
+      DimensionRelationshipModels
+          .setDataReduction(EDataReduction.LOG_BINNING, 16);
+      fewer = new AlgorithmBehaviorClusterer(transformations, -1, -1);
+    } finally {
+      DimensionRelationshipModels.setDataReduction(reduction, maxPoints);
+    }
+
+    // without reduction, the number of points makes no difference
+    Assert.assertEquals(none, noneCopy);
+    Assert.assertEquals(none.hashCode(), noneCopy.hashCode());
+    Assert.assertEquals(binning, binningCopy);
+    Assert.assertEquals(binning.hashCode(), binningCopy.hashCode());
+
+    Assert.assertNotEquals(none, binning);
+    Assert.assertNotEquals(binning, fewer);
+  }
 }
@@ -0,0 +1,152 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.clustering;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.DistinctValueGroup;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.DistinctValueGroups;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.EGroupingMode;
+import org.optimizationBenchmarking.evaluator.attributes.clusters.propertyValueGroups.PropertyValueGrouper;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IFeature;
+import org.optimizationBenchmarking.evaluator.data.spec.IFeatureValue;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstance;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * Group the instances by the distinct values of a {@code double}-valued
+ * feature, most of whose values are integral. The values are grouped
+ * based on a sorted {@code double} array, but each group must contain
+ * exactly the instances with its value and must provide the original
+ * value object of the feature.
+ */
+public class DistinctDoubleValueGroupingTest {
+
+  /** the name of the feature */
+  private static final String FEATURE = "n"; //$NON-NLS-1$
+
+  /** the names of the instances */
+  private static final String[] NAMES = { "a", "b", "c", "d" }; //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+
+  /** the feature values of the instances */
+  private static final double[] VALUES = { 4d, 0.5d, 2d, 1d };
+
+  /** create */
+  public DistinctDoubleValueGroupingTest() {
+    super();
+  }
+
+  /**
+   * Create the experiment set
+   *
+   * @return the experiment set
+   */
+  private static final IExperimentSet __create() {
+    final String[] names;
+    int index;
+
+    names = DistinctDoubleValueGroupingTest.NAMES;
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("FEs"); //$NON-NLS-1$
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("F"); //$NON-NLS-1$
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        for (index = 0; index < names.length; index++) {
+          try (final InstanceContext ic = isc.createInstance()) {
+            ic.setName(names[index]);
+            ic.setFeatureValue(DistinctDoubleValueGroupingTest.FEATURE,
+                Double.valueOf(
+                    DistinctDoubleValueGroupingTest.VALUES[index]));
+          }
+        }
+      }
+
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("e"); //$NON-NLS-1$
+        for (final String name : names) {
+          try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+            irc.setInstance(name);
+            try (final RunContext rc = irc.createRun()) {
+              rc.addDataPoint(Long.valueOf(1L), Double.valueOf(10d));
+              rc.addDataPoint(Long.valueOf(5L), Double.valueOf(1d));
+            }
+          }
+        }
+      }
+
+      return esc.create();
+    }
+  }
+
+  /**
+   * each distinct value forms a group of its own, which holds the
+   * instances with that value and the original value object
+   */
+  @Test(timeout = 3600000)
+  public void testDistinctIntegralDoubleValues() {
+    final IExperimentSet set;
+    final IFeature feature;
+    final DistinctValueGroups groups;
+    final double[] sorted;
+    final String[] names;
+    DistinctValueGroup group;
+    IInstance instance;
+    Object original;
+    int index;
+
+    set = DistinctDoubleValueGroupingTest.__create();
+    feature = set.getFeatures()
+        .find(DistinctDoubleValueGroupingTest.FEATURE);
+    Assert.assertNotNull(feature);
+
+    groups = ((DistinctValueGroups) (new PropertyValueGrouper(
+        EGroupingMode.DISTINCT, null, 1, 10).get(feature, null)));
+    Assert.assertEquals(EGroupingMode.DISTINCT, groups.getGroupingMode());
+
+    sorted = new double[] { 0.5d, 1d, 2d, 4d };
+    names = new String[] { "b", "d", "c", "a" }; //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+    Assert.assertEquals(sorted.length, groups.getData().size());
+
+    for (index = 0; index < sorted.length; index++) {
+      group = groups.getData().get(index);
+
+      // the value is the original value object of the feature
+      original = null;
+      for (final IFeatureValue value : feature.getData()) {
+        if (((Number) (value.getValue())).doubleValue() == sorted[index]) {
+          original = value.getValue();
+        }
+      }
+      Assert.assertNotNull(original);
+      Assert.assertSame(original, group.getValue());
+
+      // the group contains exactly the instance with that value
+      Assert.assertEquals(1, group.getInstances().getData().size());
+      instance = group.getInstances().getData().get(0);
+      Assert.assertEquals(names[index], instance.getName());
+    }
+  }
+}
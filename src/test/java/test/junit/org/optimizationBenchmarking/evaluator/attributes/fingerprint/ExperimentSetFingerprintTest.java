@@ -0,0 +1,92 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.fingerprint;
+
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.ExperimentSetFingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.Fingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.InstanceRunsFingerprint;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+
+import shared.junit.org.optimizationBenchmarking.evaluator.attributes.ExperimentSetAttributeTest;
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
+
+/** The test for the experiment set fingerprint attribute */
+public class ExperimentSetFingerprintTest
+    extends ExperimentSetAttributeTest<Fingerprint, ExperimentSetFingerprint> {
+
+  /** the seed of the synthetic data */
+  private static final long SEED = 1234567L;
+
+  /** create */
+  public ExperimentSetFingerprintTest() {
+    super(ExperimentSetFingerprint.INSTANCE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void checkResult(final ExperimentSetFingerprint attribute,
+      final IExperimentSet experimentSet, final IExperimentSet input,
+      final Fingerprint result) {
+    HashSet<Fingerprint> fingerprints;
+    Fingerprint runs;
+
+    Assert.assertNotNull(result);
+    Assert.assertEquals(32, result.toString().length());
+
+    for (final IExperiment experiment : input.getData()) {
+      fingerprints = new HashSet<>();
+      for (final IInstanceRuns instanceRuns : experiment.getData()) {
+        runs = InstanceRunsFingerprint.INSTANCE.get(instanceRuns, null);
+        Assert.assertNotNull(runs);
+        Assert.assertNotEquals(result, runs);
+        // the runs of one experiment belong to different instances
+        Assert.assertTrue(fingerprints.add(runs));
+      }
+    }
+  }
+
+  /**
+   * Create a synthetic experiment set
+   *
+   * @param change
+   *          the change of the last data point
+   * @return the experiment set
+   */
+  private static final IExperimentSet __create(final double change) {
+    return SyntheticExperimentSet.create(3, 4, 5, 20,
+        ExperimentSetFingerprintTest.SEED, 0d, change, null);
+  }
+
+  /**
+   * Two separately loaded copies of the same data must have the same
+   * fingerprint.
+   */
+  @Test(timeout = 3600000)
+  public void testSeparatelyLoadedCopy() {
+    final IExperimentSet a, b;
+
+    a = ExperimentSetFingerprintTest.__create(0d);
+    b = ExperimentSetFingerprintTest.__create(0d);
+    Assert.assertNotSame(a, b);
+    Assert.assertEquals(ExperimentSetFingerprint.INSTANCE.get(a, null),
+        ExperimentSetFingerprint.INSTANCE.get(b, null));
+    Assert.assertEquals(
+        ExperimentSetFingerprint.INSTANCE.get(a, null).toString(),
+        ExperimentSetFingerprint.INSTANCE.get(b, null).toString());
+  }
+
+  /** Changing a single data point must change the fingerprint. */
+  @Test(timeout = 3600000)
+  public void testChangedDataPoint() {
+    final IExperimentSet a, b;
+
+    a = ExperimentSetFingerprintTest.__create(0d);
+    b = ExperimentSetFingerprintTest.__create(1d);
+    Assert.assertNotEquals(ExperimentSetFingerprint.INSTANCE.get(a, null),
+        ExperimentSetFingerprint.INSTANCE.get(b, null));
+  }
+}
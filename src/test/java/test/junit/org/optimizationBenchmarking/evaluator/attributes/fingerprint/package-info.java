@@ -0,0 +1,4 @@
+/**
+ * Tests of our data fingerprint attributes.
+ */
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.fingerprint;
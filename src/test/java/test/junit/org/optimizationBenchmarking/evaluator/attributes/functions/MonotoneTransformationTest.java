@@ -0,0 +1,167 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformationParser;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * Test which transformations are recognized as monotone, so that the
+ * ECDF can find the first data point of a run reaching a goal via binary
+ * search. Multiplications and divisions by instance features can only be
+ * recognized once the transformation is bound to data, since only then
+ * the sign of the feature value is known.
+ */
+public class MonotoneTransformationTest {
+
+  /** the parser */
+  private final DimensionTransformationParser m_parser;
+
+  /** the runs of an instance with feature value {@code n=10} */
+  private final IInstanceRuns m_large;
+
+  /** the runs of an instance with feature value {@code n=0.5} */
+  private final IInstanceRuns m_small;
+
+  /** create */
+  public MonotoneTransformationTest() {
+    super();
+
+    final IExperimentSet set;
+
+    set = MonotoneTransformationTest.__create();
+    this.m_parser = new DimensionTransformationParser(set);
+    this.m_large = set.getData().get(0).getData().get(0);
+    this.m_small = set.getData().get(0).getData().get(1);
+    Assert.assertEquals("large", //$NON-NLS-1$
+        this.m_large.getInstance().getName());
+    Assert.assertEquals("small", //$NON-NLS-1$
+        this.m_small.getInstance().getName());
+  }
+
+  /**
+   * Create the experiment set
+   *
+   * @return the experiment set
+   */
+  private static final IExperimentSet __create() {
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("FEs"); //$NON-NLS-1$
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("F"); //$NON-NLS-1$
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        try (final InstanceContext ic = isc.createInstance()) {
+          ic.setName("large"); //$NON-NLS-1$
+          ic.setFeatureValue("n", Double.valueOf(10d)); //$NON-NLS-1$
+        }
+        try (final InstanceContext ic = isc.createInstance()) {
+          ic.setName("small"); //$NON-NLS-1$
+          ic.setFeatureValue("n", Double.valueOf(0.5d)); //$NON-NLS-1$
+        }
+      }
+
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("e"); //$NON-NLS-1$
+        for (final String name : new String[] { "large", "small" }) { //$NON-NLS-1$//$NON-NLS-2$
+          try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+            irc.setInstance(name);
+            try (final RunContext rc = irc.createRun()) {
+              rc.addDataPoint(Long.valueOf(1L), Double.valueOf(10d));
+              rc.addDataPoint(Long.valueOf(8L), Double.valueOf(2d));
+            }
+          }
+        }
+      }
+
+      return esc.create();
+    }
+  }
+
+  /**
+   * Parse a transformation
+   *
+   * @param string
+   *          the transformation string
+   * @return the transformation
+   */
+  private final DimensionTransformation __parse(final String string) {
+    return this.m_parser.parseString(string);
+  }
+
+  /**
+   * Check whether a transformation is monotone after being bound to the
+   * given runs
+   *
+   * @param string
+   *          the transformation string
+   * @param runs
+   *          the runs
+   * @return {@code true} if the bound transformation is monotone
+   */
+  private final boolean __isMonotone(final String string,
+      final IInstanceRuns runs) {
+    return Transformation
+        .isMonotoneFunction(this.__parse(string).use(runs));
+  }
+
+  /** monotone functions and their compositions are recognized */
+  @Test(timeout = 3600000)
+  public void testCompositions() {
+    Assert.assertTrue(this.__parse("FEs").isMonotoneTransformation()); //$NON-NLS-1$
+    Assert.assertTrue(this.__parse("ln(FEs)").isMonotoneTransformation()); //$NON-NLS-1$
+    Assert.assertTrue(
+        this.__parse("sqrt(ln(FEs))").isMonotoneTransformation()); //$NON-NLS-1$
+    Assert.assertTrue(
+        this.__parse("exp(sqrt(FEs))").isMonotoneTransformation()); //$NON-NLS-1$
+    Assert.assertFalse(
+        this.__parse("FEs*FEs").isMonotoneTransformation()); //$NON-NLS-1$
+  }
+
+  /**
+   * multiplications and divisions by positive feature values and
+   * additions of feature values are recognized once bound
+   */
+  @Test(timeout = 3600000)
+  public void testFeatureConstants() {
+    Assert.assertTrue(this.__isMonotone("FEs/n", this.m_large)); //$NON-NLS-1$
+    Assert.assertTrue(this.__isMonotone("FEs/n", this.m_small)); //$NON-NLS-1$
+    Assert.assertTrue(this.__isMonotone("n*FEs", this.m_large)); //$NON-NLS-1$
+    Assert.assertTrue(this.__isMonotone("FEs+n", this.m_small)); //$NON-NLS-1$
+    Assert.assertTrue(this.__isMonotone("ln(FEs)/ln(n)", this.m_large)); //$NON-NLS-1$
+
+    // the logarithm of 0.5 is negative, so the order is reversed
+    Assert.assertFalse(this.__isMonotone("ln(FEs)/ln(n)", this.m_small)); //$NON-NLS-1$
+
+    // the sign of an unbound feature is not known
+    Assert.assertFalse(
+        this.__parse("ln(FEs)/ln(n)").isMonotoneTransformation()); //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,212 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.StepFunctionAggregation;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.ScalarAggregate;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Maximum;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Minimum;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Variance;
+
+/**
+ * Test the merging of step functions against a direct evaluation at every
+ * {@code x} coordinate.
+ */
+public class StepFunctionAggregationTest {
+
+  /** the special values which may occur as {@code y} coordinates */
+  private static final double[] SPECIAL = { Double.NEGATIVE_INFINITY,
+      Double.POSITIVE_INFINITY, Double.NaN };
+
+  /** create */
+  public StepFunctionAggregationTest() {
+    super();
+  }
+
+  /**
+   * create a random step function
+   *
+   * @param random
+   *          the random number generator
+   * @param increasing
+   *          should the {@code x} coordinates be increasing?
+   * @param special
+   *          should infinite and {@code NaN} {@code y} coordinates occur?
+   * @return the step function
+   */
+  private static final IMatrix __createFunction(final Random random,
+      final boolean increasing, final boolean special) {
+    final double[] data;
+    final int m;
+    int i, x, y;
+
+    m = (1 + random.nextInt(30));
+    data = new double[m << 1];
+    x = random.nextInt(10);
+    for (i = 0; i < m; i++) {
+      x += random.nextInt(4);
+      data[i << 1] = (increasing ? x : (-x));
+      y = random.nextInt(special ? 24 : 20);
+      data[(i << 1) + 1] = ((y < 20) ? y
+          : StepFunctionAggregationTest.SPECIAL[y % 3]);
+    }
+    return new DoubleMatrix1D(data, m, 2);
+  }
+
+  /**
+   * Get the value of a step function at a given {@code x} coordinate
+   *
+   * @param function
+   *          the step function
+   * @param x
+   *          the {@code x} coordinate
+   * @param increasing
+   *          are the {@code x} coordinates increasing?
+   * @param start
+   *          the value before the first point
+   * @return the value
+   */
+  private static final double __valueAt(final IMatrix function,
+      final double x, final boolean increasing, final double start) {
+    double value, current;
+    int i;
+
+    value = start;
+    for (i = 0; i < function.m(); i++) {
+      current = function.getDouble(i, 0);
+      if (increasing ? (current > x) : (current < x)) {
+        break;
+      }
+      value = function.getDouble(i, 1);
+    }
+    return value;
+  }
+
+  /**
+   * test the aggregation with a given parameter
+   *
+   * @param parameter
+   *          the parameter
+   * @param special
+   *          should infinite and {@code NaN} {@code y} coordinates occur?
+   */
+  private static final void __test(final StatisticalParameter parameter,
+      final boolean special) {
+    final Random random;
+    IMatrix[] functions;
+    IMatrix result;
+    ScalarAggregate aggregate;
+    double[] xs;
+    boolean increasing;
+    int test, i, j, count;
+
+    random = new Random();
+    for (test = 0; test < 100; test++) {
+      increasing = random.nextBoolean();
+      functions = new IMatrix[1 + random.nextInt(12)];
+      count = 0;
+      for (i = functions.length; (--i) >= 0;) {
+        functions[i] = StepFunctionAggregationTest.__createFunction(random,
+            increasing, special);
+        count += functions[i].m();
+      }
+
+      result = StepFunctionAggregation.aggregate(functions, increasing,
+          -1d, false, Double.NaN, parameter, null);
+
+      xs = new double[count];
+      count = 0;
+      for (final IMatrix function : functions) {
+        for (i = 0; i < function.m(); i++) {
+          xs[count++] = function.getDouble(i, 0);
+        }
+      }
+      Arrays.sort(xs);
+
+      for (final double x : xs) {
+        aggregate = parameter.createSampleAggregate();
+        for (j = 0; j < functions.length; j++) {
+          aggregate.append(StepFunctionAggregationTest
+              .__valueAt(functions[j], x, increasing, -1d));
+        }
+        Assert.assertEquals(aggregate.toNumber().doubleValue(),
+            StepFunctionAggregationTest.__valueAt(result, x, increasing,
+                Double.NaN),
+            1e-9d);
+      }
+    }
+  }
+
+  /** test the arithmetic mean */
+  @Test(timeout = 3600000)
+  public void testArithmeticMean() {
+    StepFunctionAggregationTest.__test(ArithmeticMean.INSTANCE, false);
+  }
+
+  /** test the median */
+  @Test(timeout = 3600000)
+  public void testMedian() {
+    StepFunctionAggregationTest.__test(Median.INSTANCE, false);
+  }
+
+  /**
+   * test the median with infinite and {@code NaN} values, where the
+   * midpoint of the two middle values must be the same as the one of the
+   * median over all values, e.g., for {@code -inf} and {@code +inf}
+   */
+  @Test(timeout = 3600000)
+  public void testMedianSpecialValues() {
+    StepFunctionAggregationTest.__test(Median.INSTANCE, true);
+  }
+
+  /**
+   * the median of two step functions at {@code -inf} and {@code +inf} is
+   * the same as the one computed directly
+   */
+  @Test(timeout = 3600000)
+  public void testMedianOfOppositeInfinities() {
+    final ScalarAggregate aggregate;
+    final IMatrix result;
+
+    aggregate = Median.INSTANCE.createSampleAggregate();
+    aggregate.append(Double.NEGATIVE_INFINITY);
+    aggregate.append(Double.POSITIVE_INFINITY);
+
+    result = StepFunctionAggregation.aggregate(new IMatrix[] { //
+        new DoubleMatrix1D(new double[] { 1d, Double.NEGATIVE_INFINITY },
+            1, 2), //
+        new DoubleMatrix1D(new double[] { 1d, Double.POSITIVE_INFINITY },
+            1, 2) }, true, -1d, false, Double.NaN, Median.INSTANCE, null);
+
+    Assert.assertEquals(aggregate.toNumber().doubleValue(),
+        StepFunctionAggregationTest.__valueAt(result, 1d, true,
+            Double.NaN),
+        0d);
+  }
+
+  /** test the minimum */
+  @Test(timeout = 3600000)
+  public void testMinimum() {
+    StepFunctionAggregationTest.__test(Minimum.INSTANCE, false);
+  }
+
+  /** test the maximum */
+  @Test(timeout = 3600000)
+  public void testMaximum() {
+    StepFunctionAggregationTest.__test(Maximum.INSTANCE, false);
+  }
+
+  /** test the variance, which is re-computed at each step */
+  @Test(timeout = 3600000)
+  public void testVariance() {
+    StepFunctionAggregationTest.__test(Variance.INSTANCE, false);
+  }
+}
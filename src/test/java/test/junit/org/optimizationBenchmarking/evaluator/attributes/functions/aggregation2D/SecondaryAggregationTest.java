@@ -0,0 +1,341 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.aggregation2D;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.StepFunctionAggregation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.aggregation2D.Aggregation2D;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IElementSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Variance;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * If the {@code y} dimension of an aggregation 2D is not a time measure
+ * and the secondary statistic is a dispersion or representative value
+ * statistic, the per-instance-runs results are merged with a
+ * {@link StepFunctionAggregation} instead of a matrix iteration. This test
+ * computes the same {@link Aggregation2D} over experiments and experiment
+ * sets with the merge {@link StepFunctionAggregation#setEnabled(boolean)
+ * enabled} and disabled and checks that both yield the same step
+ * functions, for increasing and decreasing {@code y} dimensions. The
+ * merge only keeps the points ending a constant segment, so its result
+ * may have fewer rows than the one of the matrix iteration, but never
+ * more.
+ */
+public class SecondaryAggregationTest {
+
+  /** the name of the time dimension */
+  private static final String TIME = "FEs"; //$NON-NLS-1$
+  /** the name of the objective dimension */
+  private static final String OBJECTIVE = "F"; //$NON-NLS-1$
+
+  /** create */
+  public SecondaryAggregationTest() {
+    super();
+  }
+
+  /**
+   * Create an experiment set from the given runs. All experiments must
+   * have runs for the same number of instances.
+   *
+   * @param data
+   *          the runs, indexed by experiment, instance, and run, each
+   *          holding the {@code (x, y)} coordinates of its points one
+   *          after the other
+   * @param isYIncreasing
+   *          is the objective dimension increasing?
+   * @return the experiment set
+   */
+  private static final IExperimentSet __create(final double[][][][] data,
+      final boolean isYIncreasing) {
+    int experiment, instance, point;
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(SecondaryAggregationTest.TIME);
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(SecondaryAggregationTest.OBJECTIVE);
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(isYIncreasing ? EDimensionDirection.INCREASING
+              : EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        for (instance = 0; instance < data[0].length; instance++) {
+          try (final InstanceContext ic = isc.createInstance()) {
+            ic.setName("i" + instance); //$NON-NLS-1$
+          }
+        }
+      }
+
+      for (experiment = 0; experiment < data.length; experiment++) {
+        try (final ExperimentContext ec = esc.createExperiment()) {
+          ec.setName("e" + experiment); //$NON-NLS-1$
+          for (instance = 0; instance < data[experiment].length; instance++) {
+            try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+              irc.setInstance("i" + instance); //$NON-NLS-1$
+              for (final double[] run : data[experiment][instance]) {
+                try (final RunContext rc = irc.createRun()) {
+                  for (point = 0; point < run.length; point += 2) {
+                    rc.addDataPoint(Long.valueOf((long) (run[point])),
+                        Double.valueOf(run[point + 1]));
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+
+      return esc.create();
+    }
+  }
+
+  /**
+   * Create the points of a random run with few distinct objective values,
+   * so that the aggregates often stay the same over several points
+   *
+   * @param random
+   *          the random number generator
+   * @param isYIncreasing
+   *          is the objective dimension increasing?
+   * @return the points of the run
+   */
+  private static final double[] __createRun(final Random random,
+      final boolean isYIncreasing) {
+    final double[] run;
+    long x;
+    double y;
+    int point;
+
+    run = new double[(1 + random.nextInt(20)) << 1];
+    x = random.nextInt(10);
+    y = random.nextInt(20);
+    for (point = 0; point < run.length; point += 2) {
+      x += (1 + random.nextInt(3));
+      if (random.nextInt(3) <= 0) {
+        y += (isYIncreasing ? 1 : (-1));
+      }
+      run[point] = x;
+      run[point + 1] = y;
+    }
+    return run;
+  }
+
+  /**
+   * Get the value of a step function at a given {@code x} coordinate
+   *
+   * @param function
+   *          the step function
+   * @param x
+   *          the {@code x} coordinate
+   * @return the value, or {@code NaN} if {@code x} is before the first
+   *         point
+   */
+  private static final double __valueAt(final IMatrix function,
+      final double x) {
+    double value;
+    int i;
+
+    value = Double.NaN;
+    for (i = 0; i < function.m(); i++) {
+      if (function.getDouble(i, 0) > x) {
+        break;
+      }
+      value = function.getDouble(i, 1);
+    }
+    return value;
+  }
+
+  /**
+   * Compute an aggregation 2D with the merge enabled and disabled and
+   * check that both results are the same step function
+   *
+   * @param attribute
+   *          the attribute
+   * @param data
+   *          the experiment or experiment set
+   * @return the result of the merge, followed by the result of the matrix
+   *         iteration
+   */
+  private static final IMatrix[] __compare(final Aggregation2D attribute,
+      final IElementSet data) {
+    final IMatrix merged, iterated;
+    final double[] xs;
+    int count, i;
+
+    Assert.assertTrue(StepFunctionAggregation.isEnabled());
+    merged = attribute.get(data, null);
+    StepFunctionAggregation.setEnabled(false);
+    try {
+      iterated = attribute.get(data, null);
+    } finally {
+      StepFunctionAggregation.setEnabled(true);
+    }
+
+    Assert.assertTrue(merged.m() <= iterated.m());
+
+    xs = new double[merged.m() + iterated.m()];
+    count = 0;
+    for (final IMatrix function : new IMatrix[] { merged, iterated }) {
+      for (i = 0; i < function.m(); i++) {
+        xs[count++] = function.getDouble(i, 0);
+      }
+    }
+    Arrays.sort(xs);
+
+    for (final double x : xs) {
+      Assert.assertEquals(SecondaryAggregationTest.__valueAt(iterated, x),
+          SecondaryAggregationTest.__valueAt(merged, x), 1e-9d);
+    }
+    return new IMatrix[] { merged, iterated };
+  }
+
+  /**
+   * Compare the merge and the matrix iteration for a given parameter and
+   * {@code y} direction on random data
+   *
+   * @param parameter
+   *          the parameter
+   * @param isYIncreasing
+   *          is the {@code y} axis increasing?
+   */
+  private static final void __test(final StatisticalParameter parameter,
+      final boolean isYIncreasing) {
+    final Random random;
+    double[][][][] data;
+    IExperimentSet set;
+    Aggregation2D attribute;
+    int test, experiment, instance, run;
+
+    Assert.assertTrue(parameter.isDispersionStatistic()
+        || parameter.isRepresentativeValueStatistic());
+
+    random = new Random();
+    for (test = 0; test < 20; test++) {
+      data = new double[1 + random.nextInt(3)][1 + random.nextInt(8)][][];
+      for (experiment = data.length; (--experiment) >= 0;) {
+        for (instance = data[experiment].length; (--instance) >= 0;) {
+          data[experiment][instance] = new double[1 + random.nextInt(4)][];
+          for (run = data[experiment][instance].length; (--run) >= 0;) {
+            data[experiment][instance][run] = SecondaryAggregationTest
+                .__createRun(random, isYIncreasing);
+          }
+        }
+      }
+
+      set = SecondaryAggregationTest.__create(data, isYIncreasing);
+      attribute = new Aggregation2D(
+          new DimensionTransformation(
+              set.getDimensions().find(SecondaryAggregationTest.TIME)),
+          new DimensionTransformation(set.getDimensions()
+              .find(SecondaryAggregationTest.OBJECTIVE)),
+          new Transformation(), ArithmeticMean.INSTANCE, parameter);
+
+      for (final IExperiment exp : set.getData()) {
+        SecondaryAggregationTest.__compare(attribute, exp);
+      }
+      SecondaryAggregationTest.__compare(attribute, set);
+    }
+  }
+
+  /** test the arithmetic mean for an increasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testArithmeticMeanIncreasing() {
+    SecondaryAggregationTest.__test(ArithmeticMean.INSTANCE, true);
+  }
+
+  /** test the arithmetic mean for a decreasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testArithmeticMeanDecreasing() {
+    SecondaryAggregationTest.__test(ArithmeticMean.INSTANCE, false);
+  }
+
+  /** test the median for an increasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testMedianIncreasing() {
+    SecondaryAggregationTest.__test(Median.INSTANCE, true);
+  }
+
+  /** test the median for a decreasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testMedianDecreasing() {
+    SecondaryAggregationTest.__test(Median.INSTANCE, false);
+  }
+
+  /** test the variance for an increasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testVarianceIncreasing() {
+    SecondaryAggregationTest.__test(Variance.INSTANCE, true);
+  }
+
+  /** test the variance for a decreasing {@code y} axis */
+  @Test(timeout = 3600000)
+  public void testVarianceDecreasing() {
+    SecondaryAggregationTest.__test(Variance.INSTANCE, false);
+  }
+
+  /**
+   * If the aggregate stays the same while some runs change, the merge
+   * only keeps the first and the last point of the constant segment,
+   * while the matrix iteration keeps one point per {@code x} coordinate:
+   * The median of the three instances below is {@code 20} from
+   * {@code x=1} to {@code x=4}, while the third instance changes at each
+   * of these coordinates.
+   */
+  @Test(timeout = 3600000)
+  public void testMergeDropsPointsInConstantSegments() {
+    final IExperimentSet set;
+    final IMatrix[] results;
+
+    set = SecondaryAggregationTest.__create(new double[][][][] { //
+        { { { 1d, 10d } }, //
+            { { 1d, 20d } }, //
+            { { 1d, 30d, 2d, 25d, 3d, 22d, 4d, 21d } } } },
+        false);
+
+    results = SecondaryAggregationTest.__compare(new Aggregation2D(
+        new DimensionTransformation(
+            set.getDimensions().find(SecondaryAggregationTest.TIME)),
+        new DimensionTransformation(
+            set.getDimensions().find(SecondaryAggregationTest.OBJECTIVE)),
+        new Transformation(), ArithmeticMean.INSTANCE, Median.INSTANCE),
+        set.getData().get(0));
+
+    Assert.assertEquals(2, results[0].m());
+    Assert.assertEquals(1d, results[0].getDouble(0, 0), 0d);
+    Assert.assertEquals(20d, results[0].getDouble(0, 1), 0d);
+    Assert.assertEquals(4d, results[0].getDouble(1, 0), 0d);
+    Assert.assertEquals(20d, results[0].getDouble(1, 1), 0d);
+    Assert.assertEquals(4, results[1].m());
+  }
+}
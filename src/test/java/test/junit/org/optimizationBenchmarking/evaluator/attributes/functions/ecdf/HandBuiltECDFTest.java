@@ -0,0 +1,258 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.parsers.BoundedDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.BoundedLongParser;
+
+/**
+ * Compute the ECDF over a few hand-built runs and compare it with the
+ * values worked out by hand. The ECDF starts at the earliest time of the
+ * time dimension, i.e., the lower bound of its parser if time is
+ * increasing and the upper bound otherwise. If a run reaches the goal at
+ * that time, the ECDF does not need an extra point with success fraction
+ * zero there. After the last hit, the ECDF is extended to the latest time
+ * reached by any run. The bounds of the parsers are chosen to be the
+ * earliest times in the data.
+ */
+public class HandBuiltECDFTest {
+
+  /** the name of the time dimension */
+  private static final String TIME = "T"; //$NON-NLS-1$
+  /** the name of the goal dimension */
+  private static final String GOAL = "F"; //$NON-NLS-1$
+
+  /** create */
+  public HandBuiltECDFTest() {
+    super();
+  }
+
+  /**
+   * Create the runs of a single instance of a single experiment
+   *
+   * @param isTimeLong
+   *          is time measured in {@code long}s?
+   * @param isTimeIncreasing
+   *          is the time dimension increasing?
+   * @param timeLower
+   *          the lower bound of the time values
+   * @param timeUpper
+   *          the upper bound of the time values
+   * @param isGoalLong
+   *          is the goal dimension measured in {@code long}s?
+   * @param data
+   *          the runs, each holding the {@code (time, goal)} coordinates
+   *          of its points one after the other
+   * @return the runs
+   */
+  private static final IInstanceRuns __create(final boolean isTimeLong,
+      final boolean isTimeIncreasing, final double timeLower,
+      final double timeUpper, final boolean isGoalLong,
+      final double[][] data) {
+    final IExperimentSet set;
+    int point;
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(HandBuiltECDFTest.TIME);
+          dc.setDirection(isTimeIncreasing
+              ? EDimensionDirection.INCREASING_STRICTLY
+              : EDimensionDirection.DECREASING_STRICTLY);
+          if (isTimeLong) {
+            dc.setType(EDimensionType.ITERATION_FE);
+            dc.setParser(new BoundedLongParser(((long) timeLower),
+                ((long) timeUpper)));
+          } else {
+            dc.setType(EDimensionType.RUNTIME_CPU);
+            dc.setParser(new BoundedDoubleParser(timeLower, timeUpper));
+          }
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName(HandBuiltECDFTest.GOAL);
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          if (isGoalLong) {
+            dc.setParser(new BoundedLongParser(0L, 1000L));
+          } else {
+            dc.setParser(new BoundedDoubleParser(0d, 1000d));
+          }
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        try (final InstanceContext ic = isc.createInstance()) {
+          ic.setName("i"); //$NON-NLS-1$
+        }
+      }
+
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("e"); //$NON-NLS-1$
+        try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+          irc.setInstance("i"); //$NON-NLS-1$
+          for (final double[] run : data) {
+            try (final RunContext rc = irc.createRun()) {
+              for (point = 0; point < run.length; point += 2) {
+                rc.addDataPoint(
+                    (isTimeLong ? ((Number) (Long.valueOf(//
+                        (long) (run[point]))))
+                        : ((Number) (Double.valueOf(run[point])))),
+                    (isGoalLong ? ((Number) (Long.valueOf(//
+                        (long) (run[point + 1]))))
+                        : ((Number) (Double.valueOf(run[point + 1])))));
+              }
+            }
+          }
+        }
+      }
+
+      set = esc.create();
+    }
+
+    return set.getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Compute the ECDF and compare it with the expected points
+   *
+   * @param runs
+   *          the runs
+   * @param goal
+   *          the goal value
+   * @param criterion
+   *          the goal criterion
+   * @param expected
+   *          the expected {@code (time, fraction)} points
+   */
+  private static final void __check(final IInstanceRuns runs,
+      final Number goal, final EComparison criterion,
+      final double[][] expected) {
+    final IExperimentSet set;
+    final IMatrix actual;
+    int i;
+
+    set = runs.getInstance().getOwner().getOwner();
+    actual = new ECDF(
+        new DimensionTransformation(
+            set.getDimensions().find(HandBuiltECDFTest.TIME)),
+        new DimensionTransformation(
+            set.getDimensions().find(HandBuiltECDFTest.GOAL)),
+        new Transformation(), goal, criterion, ArithmeticMean.INSTANCE)
+            .get(runs, null);
+
+    Assert.assertEquals(expected.length, actual.m());
+    Assert.assertEquals(2, actual.n());
+    for (i = 0; i < expected.length; i++) {
+      Assert.assertEquals(expected[i][0], actual.getDouble(i, 0), 0d);
+      Assert.assertEquals(expected[i][1], actual.getDouble(i, 1), 0d);
+    }
+  }
+
+  /** the runs of the test with {@code long} time and goal values */
+  private static final double[][] LONG_RUNS = { //
+      { 1, 50, 10, 20, 20, 5, 40, 0 }, //
+      { 1, 30, 5, 10, 30, 8 }, //
+      { 1, 40, 50, 15 }, //
+      { 2, 25, 20, 10, 60, 9 } };
+
+  /**
+   * test {@code long} time and goal values: no run reaches the goal at the
+   * earliest time, so the ECDF starts with a zero there
+   */
+  @Test(timeout = 3600000)
+  public void testLongTimeAndLongGoal() {
+    final IInstanceRuns runs;
+
+    runs = HandBuiltECDFTest.__create(true, true, 1d, 1000d, true,
+        HandBuiltECDFTest.LONG_RUNS);
+
+    // hits at 20, 5, never, and 20; the last time reached is 60
+    HandBuiltECDFTest.__check(runs, Long.valueOf(10L),
+        EComparison.LESS_OR_EQUAL, new double[][] { //
+            { 1d, 0d }, //
+            { 5d, 0.25d }, //
+            { 20d, 0.75d }, //
+            { 60d, 0.75d } });
+
+    // hits at 20, 30, never, and 60: the last hit is at the last time
+    HandBuiltECDFTest.__check(runs, Long.valueOf(10L), EComparison.LESS,
+        new double[][] { //
+            { 1d, 0d }, //
+            { 20d, 0.25d }, //
+            { 30d, 0.5d }, //
+            { 60d, 0.75d } });
+  }
+
+  /**
+   * test {@code double} time and goal values: one run reaches the goal at
+   * the earliest time, so the ECDF does not start with a zero
+   */
+  @Test(timeout = 3600000)
+  public void testDoubleTimeAndDoubleGoal() {
+    // hits at 0.5 (the earliest time), 1.25, and never; the last time
+    // reached is 4
+    HandBuiltECDFTest.__check(HandBuiltECDFTest.__create(false, true,
+        0.5d, 1000d, false, new double[][] { //
+            { 0.5d, 0.75d, 2.5d, 0.25d }, //
+            { 0.5d, 3.5d, 1.25d, 0.5d }, //
+            { 1.5d, 2d, 4d, 1d } }),
+        Double.valueOf(0.75d), EComparison.LESS_OR_EQUAL,
+        new double[][] { //
+            { 0.5d, (1d / 3d) }, //
+            { 1.25d, (2d / 3d) }, //
+            { 4d, (2d / 3d) } });
+  }
+
+  /**
+   * test a decreasing time dimension with {@code long} time and
+   * {@code double} goal values: the earliest time is the upper bound and
+   * the ECDF goes towards smaller times
+   */
+  @Test(timeout = 3600000)
+  public void testDecreasingTime() {
+    final IInstanceRuns runs;
+
+    runs = HandBuiltECDFTest.__create(true, false, 0d, 100d, false,
+        new double[][] { //
+            { 100d, 9d, 60d, 4d, 20d, 1d }, //
+            { 100d, 6d, 80d, 5d, 40d, 2d }, //
+            { 100d, 8d, 30d, 7d }, //
+            { 90d, 4.5d, 10d, 3d } });
+
+    // hits at 60, 80, never, and 90; the last time reached is 10
+    HandBuiltECDFTest.__check(runs, Double.valueOf(5d),
+        EComparison.LESS_OR_EQUAL, new double[][] { //
+            { 100d, 0d }, //
+            { 90d, 0.25d }, //
+            { 80d, 0.5d }, //
+            { 60d, 0.75d }, //
+            { 10d, 0.75d } });
+
+    // hits at 60, 100 (the earliest time), never, and 90
+    HandBuiltECDFTest.__check(runs, Double.valueOf(6d),
+        EComparison.LESS_OR_EQUAL, new double[][] { //
+            { 100d, 0.25d }, //
+            { 90d, 0.5d }, //
+            { 60d, 0.75d }, //
+            { 10d, 0.75d } });
+  }
+}
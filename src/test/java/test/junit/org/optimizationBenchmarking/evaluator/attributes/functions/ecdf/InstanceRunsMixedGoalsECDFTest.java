@@ -0,0 +1,35 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import java.util.Random;
+
+/**
+ * The test for the multi-goal ECDF with goal values which are partly
+ * integers and partly fractional numbers: the goals must still be sorted
+ * correctly and each result must be the same as the one of the
+ * corresponding single-goal ECDF.
+ */
+public class InstanceRunsMixedGoalsECDFTest
+    extends InstanceRunsMultiGoalECDFTest {
+
+  /** create */
+  public InstanceRunsMixedGoalsECDFTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected Number[] createGoals(final Random random) {
+    final Number[] goals;
+    int i;
+
+    goals = new Number[2 + random.nextInt(10)];
+    for (i = goals.length; (--i) >= 0;) {
+      if ((i & 1) == 0) {
+        goals[i] = Long.valueOf(random.nextInt(3) - 1);
+      } else {
+        goals[i] = Double.valueOf((2d * random.nextDouble()) - 1d);
+      }
+    }
+    return goals;
+  }
+}
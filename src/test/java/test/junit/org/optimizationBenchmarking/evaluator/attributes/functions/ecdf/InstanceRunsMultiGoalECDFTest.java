@@ -0,0 +1,99 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.MultiGoalECDF;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+
+import shared.junit.org.optimizationBenchmarking.evaluator.attributes.InstanceRunsAttributeTest;
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.FunctionTestUtils;
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.FunctionTestUtils.FunctionParameters;
+
+/**
+ * The test for the multi-goal ECDF: each of its results must be the same
+ * as the one of the corresponding single-goal ECDF.
+ */
+public class InstanceRunsMultiGoalECDFTest
+    extends InstanceRunsAttributeTest<ArrayListView<IMatrix>, MultiGoalECDF> {
+
+  /** create */
+  public InstanceRunsMultiGoalECDFTest() {
+    super(null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void checkResult(final MultiGoalECDF attribute,
+      final IExperimentSet experimentSet, final IInstanceRuns input,
+      final ArrayListView<IMatrix> result) {
+    final ArrayListView<ECDF> ecdfs;
+    IMatrix single, multi;
+    int index, i, j;
+
+    ecdfs = attribute.getECDFs();
+    Assert.assertEquals(ecdfs.size(), result.size());
+
+    for (index = result.size(); (--index) >= 0;) {
+      multi = result.get(index);
+      FunctionTestUtils.checkFunctionMatrix(multi);
+
+      single = ecdfs.get(index).get(input, null);
+      Assert.assertEquals(single.m(), multi.m());
+      Assert.assertEquals(single.n(), multi.n());
+      for (i = single.m(); (--i) >= 0;) {
+        for (j = single.n(); (--j) >= 0;) {
+          Assert.assertEquals(single.getDouble(i, j), multi.getDouble(i, j),
+              0d);
+        }
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected MultiGoalECDF getAttribute(final IExperimentSet experimentSet,
+      final IInstanceRuns data) {
+    final Random random;
+    final FunctionParameters params;
+
+    random = new Random();
+    params = FunctionTestUtils.createFunctionParameters(experimentSet,
+        random);
+
+    return new MultiGoalECDF(//
+        params.xAxisTransformation, //
+        params.yAxisInputTransformation, //
+        params.yAxisOutputTransformation, //
+        this.createGoals(random), //
+        (params.yDim.getDirection().isIncreasing() ? //
+            EComparison.GREATER_OR_EQUAL
+            : //
+            EComparison.LESS_OR_EQUAL), //
+        FunctionTestUtils.getStatisticalParameter(random)//
+    );
+  }
+
+  /**
+   * Create the goal values
+   *
+   * @param random
+   *          the random number generator
+   * @return the goal values
+   */
+  protected Number[] createGoals(final Random random) {
+    final Number[] goals;
+    int i;
+
+    goals = new Number[1 + random.nextInt(10)];
+    for (i = goals.length; (--i) >= 0;) {
+      goals[i] = Double.valueOf(random.nextDouble());
+    }
+    return goals;
+  }
+}
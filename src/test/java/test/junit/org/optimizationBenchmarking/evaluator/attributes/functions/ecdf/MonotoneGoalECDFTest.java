@@ -0,0 +1,204 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.functions.ecdf;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.Transformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.evaluator.data.spec.IDimension;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperiment;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.power.Lg;
+import org.optimizationBenchmarking.utils.math.functions.power.Ln;
+import org.optimizationBenchmarking.utils.math.functions.power.Sqrt;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
+
+/**
+ * For monotone goal transformations, the ECDF finds the first data point
+ * of a run reaching the goal via binary search. This test checks that the
+ * results are the same as those of the linear search, which is used if
+ * the same transformation is not recognized as monotone. The data is
+ * created once with positive objective values only and once with
+ * objective values becoming negative, where the transformations are
+ * undefined and the binary search must fall back to the linear one.
+ */
+public class MonotoneGoalECDFTest {
+
+  /** the number of goals to test per instance runs set */
+  private static final int GOALS = 5;
+
+  /** create */
+  public MonotoneGoalECDFTest() {
+    super();
+  }
+
+  /**
+   * Compare the binary and the linear search for a given transformation
+   * and data set
+   *
+   * @param function
+   *          the monotone goal transformation
+   * @param shift
+   *          the shift of the objective values
+   */
+  private static final void __check(final UnaryFunction function,
+      final double shift) {
+    final IExperimentSet data;
+    final Random random;
+    final IDimension time, objective;
+    final DimensionTransformation xIn, monotone, opaque;
+    final Transformation yOut;
+    IRun run;
+    double goal;
+    int index;
+
+    random = new Random(4711L);
+    data = SyntheticExperimentSet.create(2, 3, 5, 50, random.nextLong(),
+        shift, null);
+    time = data.getDimensions()
+        .find(SyntheticExperimentSet.TIME_DIMENSION);
+    objective = data.getDimensions()
+        .find(SyntheticExperimentSet.OBJECTIVE_DIMENSION);
+
+    xIn = new DimensionTransformation(time);
+    yOut = new Transformation();
+    monotone = new DimensionTransformation(function, objective);
+    opaque = new DimensionTransformation(new __Opaque(function),
+        objective);
+    Assert.assertTrue(monotone.isMonotoneTransformation());
+    Assert.assertFalse(opaque.isMonotoneTransformation());
+
+    for (final IExperiment experiment : data.getData()) {
+      for (final IInstanceRuns runs : experiment.getData()) {
+        for (index = 0; index <= MonotoneGoalECDFTest.GOALS; index++) {
+          if (index < MonotoneGoalECDFTest.GOALS) {
+            // a goal reached by at least one run
+            run = runs.getData().get(random.nextInt(runs.getData().size()));
+            goal = function.computeAsDouble(run.getDouble(
+                random.nextInt(run.m()), objective.getIndex()));
+            if (goal != goal) {
+              goal = function.computeAsDouble(
+                  run.getDouble(0, objective.getIndex()));
+            }
+          } else {
+            // a goal reached by no run
+            goal = Double.NEGATIVE_INFINITY;
+          }
+
+          for (final EComparison criterion : new EComparison[] {
+              EComparison.LESS_OR_EQUAL, EComparison.LESS,
+              EComparison.GREATER_OR_EQUAL, EComparison.GREATER }) {
+            MonotoneGoalECDFTest.__assertEquals(//
+                new ECDF(xIn, opaque, yOut, Double.valueOf(goal),
+                    criterion, ArithmeticMean.INSTANCE).get(runs, null), //
+                new ECDF(xIn, monotone, yOut, Double.valueOf(goal),
+                    criterion, ArithmeticMean.INSTANCE).get(runs, null));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Check that two matrices are identical
+   *
+   * @param expected
+   *          the expected matrix
+   * @param actual
+   *          the actual matrix
+   */
+  private static final void __assertEquals(final IMatrix expected,
+      final IMatrix actual) {
+    int i, j;
+
+    Assert.assertEquals(expected.m(), actual.m());
+    Assert.assertEquals(expected.n(), actual.n());
+    for (i = expected.m(); (--i) >= 0;) {
+      for (j = expected.n(); (--j) >= 0;) {
+        Assert.assertEquals(expected.getDouble(i, j),
+            actual.getDouble(i, j), 0d);
+      }
+    }
+  }
+
+  /** test the natural logarithm on positive data */
+  @Test(timeout = 3600000)
+  public void testLnPositive() {
+    MonotoneGoalECDFTest.__check(Ln.INSTANCE, 0d);
+  }
+
+  /** test the natural logarithm on data becoming negative */
+  @Test(timeout = 3600000)
+  public void testLnNegative() {
+    MonotoneGoalECDFTest.__check(Ln.INSTANCE, 1d);
+  }
+
+  /** test the decadic logarithm on positive data */
+  @Test(timeout = 3600000)
+  public void testLgPositive() {
+    MonotoneGoalECDFTest.__check(Lg.INSTANCE, 0d);
+  }
+
+  /** test the square root on positive data */
+  @Test(timeout = 3600000)
+  public void testSqrtPositive() {
+    MonotoneGoalECDFTest.__check(Sqrt.INSTANCE, 0d);
+  }
+
+  /** test the square root on data becoming negative */
+  @Test(timeout = 3600000)
+  public void testSqrtNegative() {
+    MonotoneGoalECDFTest.__check(Sqrt.INSTANCE, 1d);
+  }
+
+  /**
+   * A wrapper around a function which hides its monotonicity, so that
+   * the ECDF uses the linear search.
+   */
+  private static final class __Opaque extends UnaryFunction {
+
+    /** the serial version uid */
+    private static final long serialVersionUID = 1L;
+
+    /** the wrapped function */
+    private final UnaryFunction m_function;
+
+    /**
+     * create the wrapper
+     *
+     * @param function
+     *          the wrapped function
+     */
+    __Opaque(final UnaryFunction function) {
+      super();
+      this.m_function = function;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final double computeAsDouble(final double x0) {
+      return this.m_function.computeAsDouble(x0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final long computeAsLong(final long x0) {
+      return this.m_function.computeAsLong(x0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean isLongArithmeticAccurate() {
+      return this.m_function.isLongArithmeticAccurate();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipAndData;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.math.MathUtils;
+
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
+
+/**
+ * Test the compact, representative version of a dimension relationship,
+ * which behavior-based clustering may use to compare models with data.
+ */
+public class DimensionRelationshipDataTest {
+
+  /** the seed of the synthetic data */
+  private static final long SEED = 2718281L;
+
+  /** create */
+  public DimensionRelationshipDataTest() {
+    super();
+  }
+
+  /**
+   * Fit the synthetic data
+   *
+   * @param points
+   *          the number of points per run
+   * @return the fitting and data
+   */
+  private static final DimensionRelationshipData __fit(final int points) {
+    final IInstanceRuns data;
+    final IExperimentSet set;
+
+    data = SyntheticExperimentSet
+        .create(1, 1, 4, points, DimensionRelationshipDataTest.SEED, null)
+        .getData().get(0).getData().get(0);
+    set = data.getInstance().getOwner().getOwner();
+    return new DimensionRelationshipAndData(
+        new DimensionTransformation(set.getDimensions()
+            .find(SyntheticExperimentSet.TIME_DIMENSION)),
+        new DimensionTransformation(set.getDimensions()
+            .find(SyntheticExperimentSet.OBJECTIVE_DIMENSION)))
+            .get(data, null);
+  }
+
+  /** small data is represented by itself */
+  @Test(timeout = 3600000)
+  public void testSmallDataIsRepresentative() {
+    final DimensionRelationshipData fitting;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    fitting = DimensionRelationshipDataTest.__fit(10);
+    Assert.assertTrue(fitting.matrix
+        .m() <= DimensionRelationshipData.MAX_REPRESENTATIVE_POINTS);
+    Assert.assertSame(fitting, fitting.getRepresentative());
+  }
+
+  /**
+   * large data is represented by few points, on which the same model is
+   * evaluated, while the original object keeps the full measure
+   */
+  @Test(timeout = 3600000)
+  public void testLargeDataIsCompacted() {
+    final DimensionRelationshipData fitting, representative;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    fitting = DimensionRelationshipDataTest.__fit(100);
+    Assert.assertTrue(fitting.matrix
+        .m() > DimensionRelationshipData.MAX_REPRESENTATIVE_POINTS);
+
+    representative = fitting.getRepresentative();
+    Assert.assertNotSame(fitting, representative);
+    Assert.assertTrue(representative.matrix
+        .m() <= DimensionRelationshipData.MAX_REPRESENTATIVE_POINTS);
+    Assert.assertTrue(representative.matrix.m() > 0);
+    Assert.assertSame(fitting.fitting.getFittedFunction(),
+        representative.fitting.getFittedFunction());
+    Assert.assertArrayEquals(fitting.fitting.getFittedParametersRef(),
+        representative.fitting.getFittedParametersRef(), 0d);
+    Assert.assertTrue(
+        MathUtils.isFinite(representative.fitting.getQuality()));
+    Assert.assertEquals(representative.measure.evaluate(
+        representative.fitting.getFittedFunction(),
+        representative.fitting.getFittedParametersRef()),
+        representative.fitting.getQuality(), 0d);
+  }
+}
@@ -0,0 +1,234 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationship;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.math.MathUtils;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
+
+/**
+ * Test the update of a dimension relationship after runs have been added
+ * to the data: The previous parameters must be kept if they still fit,
+ * only the previous model must be fitted again if they do not, and all
+ * models must be fitted from scratch if the quality degrades too much.
+ * In all three cases, the result must become the value of the attribute
+ * for the data.
+ */
+public class DimensionRelationshipRefitTest {
+
+  /** the seed of the synthetic data */
+  private static final long SEED = 8472398L;
+
+  /** create */
+  public DimensionRelationshipRefitTest() {
+    super();
+  }
+
+  /**
+   * Create the instance runs to fit. Each call returns a new copy of the
+   * same data, so nothing is cached for it yet.
+   *
+   * @return the instance runs
+   */
+  private static final IInstanceRuns __createData() {
+    return SyntheticExperimentSet
+        .create(1, 1, 5, 50, DimensionRelationshipRefitTest.SEED, null)
+        .getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Create the dimension relationship attribute for the data
+   *
+   * @param data
+   *          the data
+   * @return the attribute
+   */
+  private static final DimensionRelationship __createAttribute(
+      final IInstanceRuns data) {
+    final IExperimentSet set;
+
+    set = data.getInstance().getOwner().getOwner();
+    return new DimensionRelationship(
+        new DimensionTransformation(set.getDimensions()
+            .find(SyntheticExperimentSet.TIME_DIMENSION)),
+        new DimensionTransformation(set.getDimensions()
+            .find(SyntheticExperimentSet.OBJECTIVE_DIMENSION)));
+  }
+
+  /**
+   * Fit a copy of the data from scratch
+   *
+   * @return the fitting
+   */
+  private static final IFittingResult __fitCopy() {
+    final IInstanceRuns data;
+
+    data = DimensionRelationshipRefitTest.__createData();
+    return DimensionRelationshipRefitTest.__createAttribute(data).get(data,
+        null);
+  }
+
+  /**
+   * Refit the data and check that the result is valid and has become the
+   * value of the attribute
+   *
+   * @param previous
+   *          the previous fitting
+   * @param addRuns
+   *          should all runs be considered as new ({@code true}) or none
+   *          ({@code false})?
+   * @return the refitted result
+   */
+  private static final IFittingResult __refit(
+      final IFittingResult previous, final boolean addRuns) {
+    final IInstanceRuns data;
+    final DimensionRelationship attribute;
+    final ArrayListView<? extends IRun> newRuns;
+    final IFittingResult result;
+
+    data = DimensionRelationshipRefitTest.__createData();
+    attribute = DimensionRelationshipRefitTest.__createAttribute(data);
+    newRuns = (addRuns ? data.getData()
+        : new ArrayListView<IRun>(new IRun[0], false));
+    result = attribute.refit(data, previous, newRuns, null);
+
+    Assert.assertNotNull(result);
+    Assert.assertNotNull(result.getFittedFunction());
+    Assert.assertNotNull(result.getFittedParametersRef());
+    Assert.assertTrue(MathUtils.isFinite(result.getQuality()));
+    Assert.assertTrue(result.getQuality() >= 0d);
+
+    // the result is installed, so it is not fitted again
+    Assert.assertSame(result, attribute.get(data, null));
+    // and a repeated refit returns it as well
+    Assert.assertSame(result, attribute.refit(data, previous, newRuns,
+        null));
+    return result;
+  }
+
+  /**
+   * If no runs have been added, the previous parameters still fit and
+   * are kept
+   */
+  @Test(timeout = 3600000)
+  public void testKeepParameters() {
+    final IFittingResult previous, result;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    previous = DimensionRelationshipRefitTest.__fitCopy();
+    result = DimensionRelationshipRefitTest.__refit(previous, false);
+
+    Assert.assertEquals(previous.getFittedFunction(),
+        result.getFittedFunction());
+    Assert.assertArrayEquals(previous.getFittedParametersRef(),
+        result.getFittedParametersRef(), 0d);
+    Assert.assertEquals(previous.getQuality(), result.getQuality(), 0d);
+  }
+
+  /**
+   * If the previous parameters do not fit the new runs, but the previous
+   * model fitted again reaches the previous quality, only that model is
+   * fitted again
+   */
+  @Test(timeout = 3600000)
+  public void testRefitModel() {
+    final IFittingResult fitted, result;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    fitted = DimensionRelationshipRefitTest.__fitCopy();
+    result = DimensionRelationshipRefitTest.__refit(
+        new __BrokenFitting(fitted, fitted.getQuality()), true);
+
+    Assert.assertEquals(fitted.getFittedFunction(),
+        result.getFittedFunction());
+    for (final double parameter : result.getFittedParametersRef()) {
+      Assert.assertTrue(MathUtils.isFinite(parameter));
+    }
+    Assert.assertTrue(result.getQuality() <= (fitted.getQuality() * 1.5d));
+  }
+
+  /**
+   * If the previous model cannot reach the previous quality, all models
+   * are fitted from scratch
+   */
+  @Test(timeout = 3600000)
+  public void testFullRefit() {
+    final IFittingResult fitted, result;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    fitted = DimensionRelationshipRefitTest.__fitCopy();
+    // no fitting of noisy data can reach a quality of zero
+    result = DimensionRelationshipRefitTest.__refit(
+        new __BrokenFitting(fitted, 0d), true);
+
+    Assert.assertTrue(result.getQuality() > 0d);
+  }
+
+  /**
+   * A previous fitting of the same model as a real fitting, but with
+   * parameters which cannot explain any data and a given claimed quality
+   */
+  private static final class __BrokenFitting implements IFittingResult {
+
+    /** the fitted function */
+    private final ParametricUnaryFunction m_function;
+    /** the parameters */
+    private final double[] m_parameters;
+    /** the claimed quality */
+    private final double m_quality;
+
+    /**
+     * create the fitting
+     *
+     * @param fitting
+     *          the real fitting
+     * @param quality
+     *          the claimed quality
+     */
+    __BrokenFitting(final IFittingResult fitting, final double quality) {
+      super();
+      this.m_function = fitting.getFittedFunction();
+      this.m_parameters = new double[fitting
+          .getFittedParametersRef().length];
+      Arrays.fill(this.m_parameters, Double.NaN);
+      this.m_quality = quality;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final ParametricUnaryFunction getFittedFunction() {
+      return this.m_function;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final double[] getFittedParametersRef() {
+      return this.m_parameters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final double getQuality() {
+      return this.m_quality;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipAndData;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipData;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationshipModels;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.math.MathUtils;
+
+import test.junit.org.optimizationBenchmarking.evaluator.attributes.benchmark.SyntheticExperimentSet;
+
+/**
+ * Compare the fitting of data large enough to be screened in the
+ * different fitting modes: serially, with each model/fitter pair as a
+ * task of its own, and with the screening stage in addition. The
+ * parallel fitting chooses from the same candidates as the serial one,
+ * while the screening may skip models which do badly on a sample, so its
+ * result may be somewhat worse, but not by much.
+ */
+public class DimensionRelationshipScreeningTest {
+
+  /** the seed of the synthetic data */
+  private static final long SEED = 6620147L;
+
+  /** the smallest number of data points for which screening is done */
+  private static final int MIN_SCREENED_POINTS = 1024;
+
+  /** create */
+  public DimensionRelationshipScreeningTest() {
+    super();
+  }
+
+  /**
+   * Fit a new copy of the data in the given mode
+   *
+   * @param parallel
+   *          should model/fitter pairs be fitted in parallel?
+   * @param screening
+   *          should large data be screened?
+   * @return the fitting and data
+   */
+  private static final DimensionRelationshipData __fit(
+      final boolean parallel, final boolean screening) {
+    final IInstanceRuns data;
+    final IExperimentSet set;
+    final boolean oldParallel, oldScreening;
+    final DimensionRelationshipData result;
+
+    data = SyntheticExperimentSet
+        .create(1, 1, 24, 60, DimensionRelationshipScreeningTest.SEED,
+            null)
+        .getData().get(0).getData().get(0);
+    set = data.getInstance().getOwner().getOwner();
+
+    oldParallel = DimensionRelationshipModels.isParallelFitting();
+    oldScreening = DimensionRelationshipModels.isScreening();
+    DimensionRelationshipModels.setParallelFitting(parallel);
+    DimensionRelationshipModels.setScreening(screening);
+    try {
+      result = new DimensionRelationshipAndData(
+          new DimensionTransformation(set.getDimensions()
+              .find(SyntheticExperimentSet.TIME_DIMENSION)),
+          new DimensionTransformation(set.getDimensions()
+              .find(SyntheticExperimentSet.OBJECTIVE_DIMENSION)))
+              .get(data, null);
+    } finally {
+      DimensionRelationshipModels.setParallelFitting(oldParallel);
+      DimensionRelationshipModels.setScreening(oldScreening);
+    }
+
+    Assert.assertNotNull(result);
+    Assert.assertTrue(result
+        .matrix.m() >= DimensionRelationshipScreeningTest.MIN_SCREENED_POINTS);
+    Assert.assertNotNull(result.fitting);
+    Assert.assertNotNull(result.fitting.getFittedFunction());
+    Assert.assertTrue(MathUtils.isFinite(result.fitting.getQuality()));
+    Assert.assertTrue(result.fitting.getQuality() >= 0d);
+    return result;
+  }
+
+  /** screening is disabled by default */
+  @Test(timeout = 3600000)
+  public void testScreeningIsOptIn() {
+    Assert.assertFalse(DimensionRelationshipModels.isScreening());
+    Assert.assertTrue(DimensionRelationshipModels.isParallelFitting());
+  }
+
+  /**
+   * the parallel and the screened fittings are about as good as the
+   * serial one
+   */
+  @Test(timeout = 3600000)
+  public void testStagedFittingMatchesSerialFitting() {
+    final double serial;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    serial = DimensionRelationshipScreeningTest.__fit(false, false)
+        .fitting.getQuality();
+    Assert.assertTrue(DimensionRelationshipScreeningTest.__fit(true, false)
+        .fitting.getQuality() <= (serial * 1.5d));
+    Assert.assertTrue(DimensionRelationshipScreeningTest.__fit(true, true)
+        .fitting.getQuality() <= (serial * 2d));
+  }
+}
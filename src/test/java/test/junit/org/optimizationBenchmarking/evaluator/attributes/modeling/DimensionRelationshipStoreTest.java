@@ -0,0 +1,218 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.fingerprint.InstanceRunsFingerprint;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformation;
+import org.optimizationBenchmarking.evaluator.attributes.functions.DimensionTransformationParser;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.DimensionRelationship;
+import org.optimizationBenchmarking.evaluator.attributes.storage.PersistentStore;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingResult;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * Test that fittings in the {@link PersistentStore} are only reused for
+ * data which is transformed in the same way: The fingerprint of the
+ * instance runs only covers the data points, so if a transformation uses
+ * an instance feature, the value of the feature must be part of the key.
+ * Each test class runs in its own process, so the store can be configured
+ * here before it is used for the first time.
+ */
+public class DimensionRelationshipStoreTest {
+
+  /** the seed of the synthetic data */
+  private static final long SEED = 3141592L;
+
+  /** the store directory */
+  private static Path s_directory;
+
+  /** create */
+  public DimensionRelationshipStoreTest() {
+    super();
+  }
+
+  /**
+   * configure the store
+   *
+   * @throws IOException
+   *           if the directory cannot be created
+   */
+  @BeforeClass
+  public static final void setUpStore() throws IOException {
+    DimensionRelationshipStoreTest.s_directory = Files
+        .createTempDirectory("store"); //$NON-NLS-1$
+    System.setProperty(PersistentStore.DIRECTORY_PROPERTY,
+        DimensionRelationshipStoreTest.s_directory.toString());
+    Assert.assertNotNull(PersistentStore.getInstance());
+  }
+
+  /**
+   * Create the instance runs to fit. The data points are always the same,
+   * only the instance feature {@code n} differs.
+   *
+   * @param n
+   *          the value of the instance feature {@code n}
+   * @return the instance runs
+   */
+  private static final IInstanceRuns __createData(final int n) {
+    final Random random;
+    final IExperimentSet set;
+    double f;
+    long fes;
+    int run, point;
+
+    random = new Random(DimensionRelationshipStoreTest.SEED);
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("FEs"); //$NON-NLS-1$
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("F"); //$NON-NLS-1$
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        try (final InstanceContext ic = isc.createInstance()) {
+          ic.setName("i"); //$NON-NLS-1$
+          ic.setFeatureValue("n", Integer.valueOf(n)); //$NON-NLS-1$
+        }
+      }
+
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("e"); //$NON-NLS-1$
+        try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+          irc.setInstance("i"); //$NON-NLS-1$
+          for (run = 0; run < 5; run++) {
+            try (final RunContext rc = irc.createRun()) {
+              fes = 1L;
+              f = (100d * (1d + random.nextDouble()));
+              for (point = 0; point < 30; point++) {
+                rc.addDataPoint(Long.valueOf(fes), Double.valueOf(f));
+                fes += (1L + random.nextInt(1 + (point << 1)));
+                f *= (1d - (0.5d * random.nextDouble()));
+              }
+            }
+          }
+        }
+      }
+
+      set = esc.create();
+    }
+
+    return set.getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Fit the data with a transformation using the instance feature
+   * {@code n}
+   *
+   * @param data
+   *          the data
+   * @return the fitting
+   */
+  private static final IFittingResult __fit(final IInstanceRuns data) {
+    final IExperimentSet set;
+    final DimensionTransformationParser parser;
+
+    set = data.getInstance().getOwner().getOwner();
+    parser = new DimensionTransformationParser(set);
+    return new DimensionRelationship(parser.parseString("FEs/n"), //$NON-NLS-1$
+        new DimensionTransformation(set.getDimensions().find("F"))) //$NON-NLS-1$
+            .get(data, null);
+  }
+
+  /**
+   * Count the entries in the store
+   *
+   * @return the number of entries
+   * @throws IOException
+   *           if the directory cannot be listed
+   */
+  private static final int __countEntries() throws IOException {
+    int count;
+
+    count = 0;
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(
+        DimensionRelationshipStoreTest.s_directory)) {
+      for (final Path path : stream) {
+        if (Files.isRegularFile(path)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * The same data with the same feature value is loaded from the store,
+   * while a different feature value leads to a store miss and a new
+   * entry.
+   *
+   * @throws IOException
+   *           if the store directory cannot be listed
+   */
+  @Test(timeout = 3600000)
+  public void testChangedFeatureValueMissesStore() throws IOException {
+    final IInstanceRuns small, smallCopy, large;
+    final IFittingResult fitted, loaded;
+    final int entries;
+
+    if (!(DimensionRelationshipTest.canUse())) {
+      return;
+    }
+
+    small = DimensionRelationshipStoreTest.__createData(10);
+    smallCopy = DimensionRelationshipStoreTest.__createData(10);
+    large = DimensionRelationshipStoreTest.__createData(1000);
+
+    // only the feature differs, which the fingerprint does not cover
+    Assert.assertEquals(InstanceRunsFingerprint.INSTANCE.get(small, null),
+        InstanceRunsFingerprint.INSTANCE.get(large, null));
+
+    fitted = DimensionRelationshipStoreTest.__fit(small);
+    entries = DimensionRelationshipStoreTest.__countEntries();
+    Assert.assertTrue(entries > 0);
+
+    // a hit: nothing new is written and the same parameters are loaded
+    loaded = DimensionRelationshipStoreTest.__fit(smallCopy);
+    Assert.assertEquals(entries,
+        DimensionRelationshipStoreTest.__countEntries());
+    Assert.assertEquals(fitted.getFittedFunction(),
+        loaded.getFittedFunction());
+    Assert.assertArrayEquals(fitted.getFittedParametersRef(),
+        loaded.getFittedParametersRef(), 0d);
+
+    // a miss: the data is fitted and stored under another key
+    DimensionRelationshipStoreTest.__fit(large);
+    Assert.assertEquals((entries + 1),
+        DimensionRelationshipStoreTest.__countEntries());
+  }
+}
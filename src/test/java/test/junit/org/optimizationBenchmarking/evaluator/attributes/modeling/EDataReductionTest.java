@@ -0,0 +1,291 @@
+package test.junit.org.optimizationBenchmarking.evaluator.attributes.modeling;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.evaluator.attributes.modeling.EDataReduction;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.DimensionSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.InstanceSetContext;
+import org.optimizationBenchmarking.evaluator.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.evaluator.data.spec.EDimensionType;
+import org.optimizationBenchmarking.evaluator.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.evaluator.data.spec.IRun;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
+
+/**
+ * Test the reduction of the points of a run before fitting models: The
+ * first and the last point must always be kept, no more than the maximum
+ * number of points may be selected, and constant {@code x} or {@code y}
+ * ranges must be handled.
+ */
+public class EDataReductionTest {
+
+  /** the index of the {@code x} dimension */
+  private static final int X = 1;
+  /** the index of the {@code y} dimension */
+  private static final int Y = 2;
+
+  /** create */
+  public EDataReductionTest() {
+    super();
+  }
+
+  /**
+   * Create a run with the given {@code x} and {@code y} coordinates. The
+   * run also has a strictly increasing time dimension at index {@code 0}.
+   *
+   * @param xs
+   *          the {@code x} coordinates, must not decrease
+   * @param ys
+   *          the {@code y} coordinates, must not increase
+   * @return the run
+   */
+  private static final IRun __createRun(final double[] xs,
+      final double[] ys) {
+    final IExperimentSet set;
+    int index;
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(null)) {
+
+      try (final DimensionSetContext dsc = esc.createDimensionSet()) {
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("FEs"); //$NON-NLS-1$
+          dc.setType(EDimensionType.ITERATION_FE);
+          dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+          dc.setParser(LongParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("T"); //$NON-NLS-1$
+          dc.setType(EDimensionType.RUNTIME_CPU);
+          dc.setDirection(EDimensionDirection.INCREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+        try (final DimensionContext dc = dsc.createDimension()) {
+          dc.setName("F"); //$NON-NLS-1$
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setParser(DoubleParser.INSTANCE);
+        }
+      }
+
+      try (final InstanceSetContext isc = esc.createInstanceSet()) {
+        try (final InstanceContext ic = isc.createInstance()) {
+          ic.setName("i"); //$NON-NLS-1$
+        }
+      }
+
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("e"); //$NON-NLS-1$
+        try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+          irc.setInstance("i"); //$NON-NLS-1$
+          try (final RunContext rc = irc.createRun()) {
+            for (index = 0; index < xs.length; index++) {
+              rc.addDataPoint(Long.valueOf(index + 1L),
+                  Double.valueOf(xs[index]), Double.valueOf(ys[index]));
+            }
+          }
+        }
+      }
+
+      set = esc.create();
+    }
+
+    return set.getData().get(0).getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Create a random run
+   *
+   * @param random
+   *          the random number generator
+   * @param points
+   *          the number of points
+   * @param constantX
+   *          should all {@code x} coordinates be the same?
+   * @param constantY
+   *          should all {@code y} coordinates be the same?
+   * @return the run
+   */
+  private static final IRun __createRun(final Random random,
+      final int points, final boolean constantX, final boolean constantY) {
+    final double[] xs, ys;
+    double x, y;
+    int index;
+
+    xs = new double[points];
+    ys = new double[points];
+    x = (1d + random.nextInt(10));
+    y = (1d + random.nextInt(1000));
+    for (index = 0; index < points; index++) {
+      if (!constantX) {
+        x += (random.nextInt(3) * random.nextDouble() * (1 + index));
+      }
+      if ((!constantY) && random.nextBoolean()) {
+        y *= random.nextDouble();
+      }
+      xs[index] = x;
+      ys[index] = y;
+    }
+    return EDataReductionTest.__createRun(xs, ys);
+  }
+
+  /**
+   * Check the selection of a reduction on a given run
+   *
+   * @param reduction
+   *          the reduction
+   * @param run
+   *          the run
+   * @param maxPoints
+   *          the maximum number of points
+   * @return the selection
+   */
+  private static final int[] __check(final EDataReduction reduction,
+      final IRun run, final int maxPoints) {
+    final int[] selected;
+    int index;
+
+    selected = reduction.select(run, EDataReductionTest.X,
+        EDataReductionTest.Y, maxPoints);
+    if (run.m() <= maxPoints) {
+      // short runs are used as they are
+      Assert.assertNull(selected);
+      return null;
+    }
+
+    Assert.assertNotNull(selected);
+    Assert.assertTrue(selected.length >= 2);
+    Assert.assertTrue(selected.length <= maxPoints);
+    Assert.assertEquals(0, selected[0]);
+    Assert.assertEquals((run.m() - 1), selected[selected.length - 1]);
+    for (index = 1; index < selected.length; index++) {
+      Assert.assertTrue(selected[index - 1] < selected[index]);
+    }
+    return selected;
+  }
+
+  /**
+   * Test a reduction on random runs with different maximum numbers of
+   * points
+   *
+   * @param reduction
+   *          the reduction
+   * @param constantX
+   *          should all {@code x} coordinates be the same?
+   * @param constantY
+   *          should all {@code y} coordinates be the same?
+   */
+  private static final void __test(final EDataReduction reduction,
+      final boolean constantX, final boolean constantY) {
+    final Random random;
+    IRun run;
+    int test, maxPoints;
+
+    random = new Random();
+    for (test = 0; test < 50; test++) {
+      run = EDataReductionTest.__createRun(random,
+          (1 + random.nextInt(300)), constantX, constantY);
+      for (maxPoints = 2; maxPoints <= 64; maxPoints <<= 1) {
+        EDataReductionTest.__check(reduction, run, maxPoints);
+        EDataReductionTest.__check(reduction, run, (maxPoints + 1));
+      }
+    }
+  }
+
+  /** the maximum number of points must be at least two */
+  @Test(timeout = 3600000, expected = IllegalArgumentException.class)
+  public void testTooFewPoints() {
+    EDataReduction.LOG_BINNING.select(
+        EDataReductionTest.__createRun(new Random(), 10, false, false),
+        EDataReductionTest.X, EDataReductionTest.Y, 1);
+  }
+
+  /** without reduction, all points are used */
+  @Test(timeout = 3600000)
+  public void testNone() {
+    Assert.assertNull(EDataReduction.NONE.select(
+        EDataReductionTest.__createRun(new Random(), 100, false, false),
+        EDataReductionTest.X, EDataReductionTest.Y, 2));
+  }
+
+  /** test the logarithmic binning */
+  @Test(timeout = 3600000)
+  public void testLogBinning() {
+    EDataReductionTest.__test(EDataReduction.LOG_BINNING, false, false);
+  }
+
+  /** test the logarithmic binning with a constant {@code x} range */
+  @Test(timeout = 3600000)
+  public void testLogBinningConstantX() {
+    EDataReductionTest.__test(EDataReduction.LOG_BINNING, true, false);
+  }
+
+  /**
+   * test the logarithmic binning with a constant {@code x} range: there
+   * is only one bin, so only the first and the last point are kept
+   */
+  @Test(timeout = 3600000)
+  public void testLogBinningConstantXKeepsEnds() {
+    Assert.assertArrayEquals(new int[] { 0, 99 },
+        EDataReductionTest.__check(EDataReduction.LOG_BINNING,
+            EDataReductionTest.__createRun(new Random(), 100, true,
+                false),
+            10));
+  }
+
+  /** test the logarithmic binning with a constant {@code y} range */
+  @Test(timeout = 3600000)
+  public void testLogBinningConstantY() {
+    EDataReductionTest.__test(EDataReduction.LOG_BINNING, false, true);
+  }
+
+  /** test the simplification */
+  @Test(timeout = 3600000)
+  public void testSimplification() {
+    EDataReductionTest.__test(EDataReduction.SIMPLIFICATION, false,
+        false);
+  }
+
+  /** test the simplification with a constant {@code x} range */
+  @Test(timeout = 3600000)
+  public void testSimplificationConstantX() {
+    EDataReductionTest.__test(EDataReduction.SIMPLIFICATION, true, false);
+  }
+
+  /** test the simplification with a constant {@code y} range */
+  @Test(timeout = 3600000)
+  public void testSimplificationConstantY() {
+    EDataReductionTest.__test(EDataReduction.SIMPLIFICATION, false, true);
+  }
+
+  /**
+   * test the simplification with a constant {@code y} range: all points
+   * are on the line between the first and the last one, so only these
+   * two are kept
+   */
+  @Test(timeout = 3600000)
+  public void testSimplificationConstantYKeepsEnds() {
+    Assert.assertArrayEquals(new int[] { 0, 99 },
+        EDataReductionTest.__check(EDataReduction.SIMPLIFICATION,
+            EDataReductionTest.__createRun(new Random(), 100, false,
+                true),
+            10));
+  }
+
+  /**
+   * test the simplification with a constant {@code x} and {@code y}
+   * range
+   */
+  @Test(timeout = 3600000)
+  public void testSimplificationConstantXY() {
+    EDataReductionTest.__test(EDataReduction.SIMPLIFICATION, true, true);
+  }
+}